@@ -0,0 +1,141 @@
+package spinbox.benchmark;
+
+import spinbox.DateTime;
+import spinbox.entities.items.tasks.Lecture;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Prints the heap used by the lectures of many modules when they are loaded from their stored lines with the
+ * Interner, as storage loads them, against the same lectures built without it.
+ *
+ * <p>Every module has two lectures a week over a semester, all named after the module. Modules share a small
+ * number of time slots, so the same dates recur across modules as they do in a real timetable. The number of
+ * modules can be given as the only argument.</p>
+ */
+public class HeapFootprint {
+    private static final int DEFAULT_MODULE_COUNT = 200;
+    private static final int WEEKS_PER_SEMESTER = 13;
+    private static final int LECTURES_PER_WEEK = 2;
+    private static final int TIME_SLOTS = 8;
+    private static final int FIRST_SLOT_HOUR = 8;
+    private static final int LECTURE_HOURS = 2;
+    private static final int GC_PASSES = 5;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    /**
+     * Builds the stored lines of the lectures of each module.
+     * @param moduleCount The number of modules.
+     * @return The stored lines of the lectures, one list per module.
+     */
+    private static List<List<String>> buildStoredLines(int moduleCount) {
+        Calendar semesterStart = Calendar.getInstance();
+        semesterStart.add(Calendar.YEAR, 1);
+        semesterStart.set(Calendar.MINUTE, 0);
+        semesterStart.set(Calendar.SECOND, 0);
+        semesterStart.set(Calendar.MILLISECOND, 0);
+
+        List<List<String>> storedLines = new ArrayList<>();
+        for (int module = 0; module < moduleCount; module++) {
+            String lectureName = "CS" + (1000 + module) + " lecture";
+            int slot = module % TIME_SLOTS;
+            List<String> moduleLines = new ArrayList<>();
+            for (int week = 0; week < WEEKS_PER_SEMESTER; week++) {
+                for (int lecture = 0; lecture < LECTURES_PER_WEEK; lecture++) {
+                    Calendar start = (Calendar) semesterStart.clone();
+                    start.add(Calendar.WEEK_OF_YEAR, week);
+                    start.add(Calendar.DAY_OF_YEAR, lecture * 2 + slot % 2);
+                    start.set(Calendar.HOUR_OF_DAY, FIRST_SLOT_HOUR + slot / 2 * LECTURE_HOURS);
+                    Calendar end = (Calendar) start.clone();
+                    end.add(Calendar.HOUR_OF_DAY, LECTURE_HOURS);
+                    moduleLines.add("LEC | 0 | " + lectureName + " | " + new DateTime(start.getTime()) + " | "
+                            + new DateTime(end.getTime()));
+                }
+            }
+            storedLines.add(moduleLines);
+        }
+        return storedLines;
+    }
+
+    /**
+     * Loads lectures the way storage does, interning their names and dates.
+     * @param storedLines The stored lines of the lectures, one list per module.
+     * @return The lectures, one list per module.
+     * @throws SpinBoxException If a stored line cannot be read.
+     */
+    private static List<List<Lecture>> loadInterned(List<List<String>> storedLines) throws SpinBoxException {
+        List<List<Lecture>> modules = new ArrayList<>();
+        for (List<String> moduleLines : storedLines) {
+            List<Lecture> lectures = new ArrayList<>();
+            for (String line : moduleLines) {
+                Lecture lecture = new Lecture();
+                lecture.fromStoredString(line);
+                lectures.add(lecture);
+            }
+            modules.add(lectures);
+        }
+        return modules;
+    }
+
+    /**
+     * Builds the same lectures from the fields of their stored lines, giving each its own name and dates.
+     * @param storedLines The stored lines of the lectures, one list per module.
+     * @return The lectures, one list per module.
+     * @throws SpinBoxException If a stored line cannot be read.
+     */
+    private static List<List<Lecture>> loadUninterned(List<List<String>> storedLines) throws SpinBoxException {
+        List<List<Lecture>> modules = new ArrayList<>();
+        for (List<String> moduleLines : storedLines) {
+            List<Lecture> lectures = new ArrayList<>();
+            for (String line : moduleLines) {
+                String[] fields = line.split(" \\| ");
+                lectures.add(new Lecture(Integer.parseInt(fields[1]), fields[2], new DateTime(fields[3]),
+                        new DateTime(fields[4])));
+            }
+            modules.add(lectures);
+        }
+        return modules;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_PASSES; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void printFootprint(String label, long bytes, int lectureCount) {
+        System.out.println(label + bytes / BYTES_PER_KILOBYTE + " KB (" + bytes / lectureCount
+                + " bytes per lecture)");
+    }
+
+    /**
+     * Runs the comparison.
+     * @param args The number of modules, optionally.
+     * @throws SpinBoxException If a lecture cannot be built.
+     */
+    public static void main(String[] args) throws SpinBoxException {
+        int moduleCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MODULE_COUNT;
+        List<List<String>> storedLines = buildStoredLines(moduleCount);
+        int lectureCount = moduleCount * WEEKS_PER_SEMESTER * LECTURES_PER_WEEK;
+        System.out.println("Loading " + lectureCount + " lectures in " + moduleCount + " modules.");
+
+        long baseline = usedHeap();
+        List<List<Lecture>> lectures = loadUninterned(storedLines);
+        long uninternedBytes = usedHeap() - baseline;
+        System.out.println("Built " + lectures.size() + " modules without the Interner.");
+        lectures = null;
+
+        baseline = usedHeap();
+        lectures = loadInterned(storedLines);
+        long internedBytes = usedHeap() - baseline;
+        System.out.println("Loaded " + lectures.size() + " modules with the Interner.");
+
+        printFootprint("Without the Interner: ", uninternedBytes, lectureCount);
+        printFootprint("With the Interner:    ", internedBytes, lectureCount);
+    }
+}
@@ -0,0 +1,103 @@
+package spinbox.benchmark;
+
+import spinbox.DateTime;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleContainer;
+import spinbox.entities.Module;
+import spinbox.entities.items.File;
+import spinbox.entities.items.GradedComponent;
+import spinbox.entities.items.tasks.Deadline;
+import spinbox.entities.items.tasks.Todo;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Times a one-shot run of a command that views the tasks of one module, which loads only that module's tasks,
+ * against a full startup that loads every module before running the same command.
+ *
+ * <p>Sample modules are stored under SpinBoxData in the working directory the first time it is run, so it should
+ * not be run where real data is kept. The number of sample modules can be given as the only argument.</p>
+ */
+public class OneShotTiming {
+    private static final int DEFAULT_MODULE_COUNT = 40;
+    private static final int ITEMS_PER_LIST = 20;
+    private static final int ROUNDS = 15;
+    private static final String MODULE_PREFIX = "BENCH";
+    private static final String COMMAND = "view / modules " + MODULE_PREFIX + "0 tasks";
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Stores sample modules with tasks, files and grades, unless some modules are stored already.
+     * @param moduleCount The number of modules.
+     * @throws SpinBoxException If the sample data cannot be stored.
+     */
+    private static void storeSampleModules(int moduleCount) throws SpinBoxException {
+        ModuleContainer moduleContainer = new ModuleContainer();
+        if (!moduleContainer.getModules().isEmpty()) {
+            System.out.println("Using the " + moduleContainer.getModules().size() + " modules already stored.");
+            return;
+        }
+        Calendar dueDate = Calendar.getInstance();
+        dueDate.add(Calendar.YEAR, 1);
+        for (int moduleIndex = 0; moduleIndex < moduleCount; moduleIndex++) {
+            Module module = moduleContainer.addModule(new Module(MODULE_PREFIX + moduleIndex,
+                    "Sample module " + moduleIndex));
+            for (int item = 0; item < ITEMS_PER_LIST; item++) {
+                dueDate.add(Calendar.HOUR_OF_DAY, 1);
+                module.getTasks().add(new Deadline("deadline " + item, new DateTime(dueDate.getTime())));
+                module.getTasks().add(new Todo("todo " + item));
+                module.getFiles().add(new File(0, "file " + item));
+                module.getGrades().add(new GradedComponent("grade " + item, 100.0 / ITEMS_PER_LIST));
+            }
+        }
+        System.out.println("Stored " + moduleCount + " sample modules.");
+    }
+
+    private static long timeFullStartup() throws SpinBoxException {
+        long start = System.nanoTime();
+        new SpinBox(false).getResponse(COMMAND, false);
+        return System.nanoTime() - start;
+    }
+
+    private static long timeOneShot() throws SpinBoxException {
+        long start = System.nanoTime();
+        new SpinBox(false, false).getOneShotResponse(COMMAND);
+        return System.nanoTime() - start;
+    }
+
+    private static String median(List<Long> times) {
+        Collections.sort(times);
+        return String.format("%.1f ms", times.get(times.size() / 2) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Runs the comparison, alternating the two runs after one untimed round of each.
+     * @param args The number of sample modules, optionally.
+     * @throws SpinBoxException If the sample data cannot be stored or loaded.
+     */
+    public static void main(String[] args) throws SpinBoxException {
+        for (Handler handler : Logger.getLogger("").getHandlers()) {
+            handler.setLevel(Level.WARNING);
+        }
+        storeSampleModules(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MODULE_COUNT);
+
+        timeFullStartup();
+        timeOneShot();
+        List<Long> fullStartupTimes = new ArrayList<>();
+        List<Long> oneShotTimes = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            fullStartupTimes.add(timeFullStartup());
+            oneShotTimes.add(timeOneShot());
+        }
+        System.out.println("Median of " + ROUNDS + " runs of '" + COMMAND + "':");
+        System.out.println("Full startup: " + median(fullStartupTimes));
+        System.out.println("One-shot:     " + median(oneShotTimes));
+    }
+}
@@ -1,16 +1,48 @@
 package spinbox;
 
+import com.joestelmach.natty.DateGroup;
 import com.joestelmach.natty.Parser;
 import spinbox.exceptions.DateFormatException;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class DateTime implements Comparable<DateTime> {
     private static final String[] NATURAL_LANGUAGE_WORDS = {"today", "tomorrow", "next", "yesterday", "day", "after"};
+    private static final Logger LOGGER = Logger.getLogger(DateTime.class.getName());
+    private static final String LOG_WARM_UP_DONE = "Date parser warmed up.";
+    private static final String LOG_WARM_UP_FAILED = "Date parser warm-up failed: ";
+    private static final String WARM_UP_THREAD_NAME = "date-parser-warm-up";
+    private static final String WARM_UP_PHRASE = "next friday 4pm";
+    private static final String DATE_TIME_FORMAT = "MM/dd/yyyy HH:mm";
+    private static final ThreadLocal<DateFormat> DATE_TIME_FORMATTER =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat(DATE_TIME_FORMAT));
+    private static final int PARSE_CACHE_CAPACITY = 256;
+    private static final String PARSE_CACHE_KEY_DELIMITER = "|";
+    private static final Pattern CLOCK_RELATIVE_PHRASE =
+            Pattern.compile("\\b(now|hours?|hrs?|minutes?|mins?|seconds?|secs?)\\b");
+    private static final Map<String, ParsedDates> PARSE_CACHE =
+            new LinkedHashMap<String, ParsedDates>(PARSE_CACHE_CAPACITY, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedDates> eldest) {
+                    return size() > PARSE_CACHE_CAPACITY;
+                }
+            };
+    private static long parseCacheHits;
+    private static long parseCacheMisses;
+
     private Date dateTime;
 
     /**
@@ -28,8 +60,7 @@ public class DateTime implements Comparable<DateTime> {
      */
     public DateTime(String dateTime) throws DateFormatException {
         validateDateTime(dateTime);
-        Parser parser = new Parser();
-        this.dateTime = parser.parse(dateTime).get(0).getDates().get(0);
+        this.dateTime = parseDates(dateTime).get(0);
     }
 
     /**
@@ -41,14 +72,101 @@ public class DateTime implements Comparable<DateTime> {
      */
     public DateTime(String dateTime, int index) throws DateFormatException {
         validateDateTime(extractDateTimeFromIndex(dateTime, index));
-        Parser parser = new Parser();
-        this.dateTime = parser.parse(dateTime).get(0).getDates().get(index);
+        this.dateTime = parseDates(dateTime).get(index);
     }
 
     public Date getDateTime() {
         return dateTime;
     }
 
+    /**
+     * Parses a date and time phrase with natty, through a bounded least recently used cache keyed by the
+     * normalized phrase and the current day. Relative phrases such as 'next friday' therefore only reach natty
+     * once a day. If natty inferred the time of day, the current time of day is applied to the cached dates,
+     * as natty itself would have done. Phrases relative to the current time, such as 'after 30 minutes', are
+     * never cached, as their result changes within the day.
+     * @param phrase The date and time phrase.
+     * @return The dates of the first date group found, or an empty list if natty found none.
+     */
+    private static List<Date> parseDates(String phrase) {
+        String normalizedPhrase = phrase.trim().replaceAll("\\s+", " ").toLowerCase();
+        if (CLOCK_RELATIVE_PHRASE.matcher(normalizedPhrase).find()) {
+            synchronized (PARSE_CACHE) {
+                parseCacheMisses++;
+            }
+            List<DateGroup> dateGroups = new Parser().parse(phrase);
+            return dateGroups.isEmpty() ? Collections.emptyList() : dateGroups.get(0).getDates();
+        }
+
+        String key = LocalDate.now() + PARSE_CACHE_KEY_DELIMITER + normalizedPhrase;
+        ParsedDates parsedDates;
+        synchronized (PARSE_CACHE) {
+            parsedDates = PARSE_CACHE.get(key);
+            if (parsedDates != null) {
+                parseCacheHits++;
+            } else {
+                parseCacheMisses++;
+            }
+        }
+
+        if (parsedDates == null) {
+            List<DateGroup> dateGroups = new Parser().parse(phrase);
+            if (dateGroups.isEmpty()) {
+                return Collections.emptyList();
+            }
+            parsedDates = new ParsedDates(dateGroups.get(0).getDates(), dateGroups.get(0).isTimeInferred());
+            synchronized (PARSE_CACHE) {
+                PARSE_CACHE.put(key, parsedDates);
+            }
+        }
+        return parsedDates.toDates();
+    }
+
+    /**
+     * Starts loading natty's grammar and the date formatting classes on a low priority background thread, so
+     * that the first date entered by the user does not pay for them. The warm-up bypasses the parse cache.
+     * @return The started daemon thread.
+     */
+    public static Thread startWarmUp() {
+        Thread warmUp = new Thread(DateTime::warmUp, WARM_UP_THREAD_NAME);
+        warmUp.setDaemon(true);
+        warmUp.setPriority(Thread.MIN_PRIORITY);
+        warmUp.start();
+        return warmUp;
+    }
+
+    private static void warmUp() {
+        LOGGER.setLevel(Level.INFO);
+        LOGGER.setUseParentHandlers(true);
+        try {
+            new Parser().parse(WARM_UP_PHRASE);
+            new DateTime(new Date()).toString();
+            LOGGER.fine(LOG_WARM_UP_DONE);
+        } catch (RuntimeException e) {
+            LOGGER.warning(LOG_WARM_UP_FAILED + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of date and time phrases resolved from the parse cache without natty.
+     * @return The number of cache hits since startup.
+     */
+    public static long getParseCacheHits() {
+        synchronized (PARSE_CACHE) {
+            return parseCacheHits;
+        }
+    }
+
+    /**
+     * Returns the number of date and time phrases that had to be parsed by natty.
+     * @return The number of cache misses since startup.
+     */
+    public static long getParseCacheMisses() {
+        synchronized (PARSE_CACHE) {
+            return parseCacheMisses;
+        }
+    }
+
     private String extractDateTimeFromIndex(String dateTime, int index) throws DateFormatException {
         String[] dateTimeArray = dateTime.split(" to ");
 
@@ -193,8 +311,7 @@ public class DateTime implements Comparable<DateTime> {
      * @return String equivalent of Date object.
      */
     public String toString() {
-        DateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy HH:mm");
-        return dateFormat.format(dateTime);
+        return DATE_TIME_FORMATTER.get().format(dateTime);
     }
 
     public boolean before(DateTime dateTime) {
@@ -205,6 +322,16 @@ public class DateTime implements Comparable<DateTime> {
         return this.dateTime.equals(dateTime.getDateTime());
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DateTime && this.equals((DateTime) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode();
+    }
+
     public boolean after(DateTime dateTime) {
         return this.dateTime.after(dateTime.getDateTime());
     }
@@ -309,4 +436,39 @@ public class DateTime implements Comparable<DateTime> {
 
         return new DateTime(calendar.getTime());
     }
+
+    /**
+     * The dates natty found in a phrase, kept as milliseconds so that cached results cannot be modified.
+     */
+    private static class ParsedDates {
+        private final long[] times;
+        private final boolean isTimeInferred;
+
+        ParsedDates(List<Date> dates, boolean isTimeInferred) {
+            this.times = new long[dates.size()];
+            for (int i = 0; i < dates.size(); i++) {
+                times[i] = dates.get(i).getTime();
+            }
+            this.isTimeInferred = isTimeInferred;
+        }
+
+        List<Date> toDates() {
+            Calendar now = Calendar.getInstance();
+            List<Date> dates = new ArrayList<>();
+            for (long time : times) {
+                if (isTimeInferred) {
+                    Calendar calendar = Calendar.getInstance();
+                    calendar.setTimeInMillis(time);
+                    calendar.set(Calendar.HOUR_OF_DAY, now.get(Calendar.HOUR_OF_DAY));
+                    calendar.set(Calendar.MINUTE, now.get(Calendar.MINUTE));
+                    calendar.set(Calendar.SECOND, now.get(Calendar.SECOND));
+                    calendar.set(Calendar.MILLISECOND, now.get(Calendar.MILLISECOND));
+                    dates.add(calendar.getTime());
+                } else {
+                    dates.add(new Date(time));
+                }
+            }
+            return dates;
+        }
+    }
 }
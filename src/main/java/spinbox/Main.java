@@ -1,6 +1,7 @@
 package spinbox;
 
 import javafx.scene.layout.GridPane;
+import spinbox.datapersistors.AsyncLogHandler;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.gui.MainWindow;
 import javafx.application.Application;
@@ -8,10 +9,8 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import java.io.IOException;
-import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * A GUI for SpinBox using FXML.
@@ -24,9 +23,7 @@ public class Main extends Application {
     @Override
     public void start(Stage stage) {
         try {
-            FileHandler fileHandler = new FileHandler("SpinBoxData/spinBox-log.txt",
-                    true);
-            fileHandler.setFormatter(new SimpleFormatter());
+            AsyncLogHandler fileHandler = new AsyncLogHandler("SpinBoxData/spinBox-log.txt");
             fileHandler.setLevel(Level.ALL);
             LOGGER.setUseParentHandlers(false);
             LOGGER.addHandler(fileHandler);
@@ -41,8 +38,8 @@ public class Main extends Application {
             GridPane gridPane = fxmlLoader.load();
             Scene scene = new Scene(gridPane);
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().initializeGui();
             stage.show();
+            fxmlLoader.<MainWindow>getController().initializeGui();
 
         } catch (SpinBoxException | IOException e) {
             e.printStackTrace();
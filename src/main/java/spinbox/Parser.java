@@ -2,11 +2,14 @@ package spinbox;
 
 import spinbox.commands.AddCommand;
 import spinbox.commands.Command;
+import spinbox.commands.CommandInput;
 import spinbox.commands.ExitCommand;
 import spinbox.commands.FindCommand;
+import spinbox.commands.FindSlotCommand;
 import spinbox.commands.HelpCommand;
 import spinbox.commands.RemoveCommand;
 import spinbox.commands.RemoveMultipleCommand;
+import spinbox.commands.RunCommand;
 import spinbox.commands.SetDateCommand;
 import spinbox.commands.ScoreCommand;
 import spinbox.commands.SetNameCommand;
@@ -14,11 +17,13 @@ import spinbox.commands.UpdateCommand;
 import spinbox.commands.UpdateMultipleCommand;
 import spinbox.commands.ViewCommand;
 import spinbox.commands.PopulateCommand;
+import spinbox.commands.ProjectCommand;
 import spinbox.commands.ExportCommand;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.exceptions.InputException;
 
 import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,132 +32,114 @@ public class Parser {
             + "'<action> <page> / <content>' or 'bye'";
     private static final String PARSING_INPUT = "Parsing input into command: ";
     private static final String LOGGER_INVALID_COMMAND = "Invalid command entered, error propagated upwards.";
-    private static final String EXITING_COMMAND_BUILDER = "Exiting static method commandBuilder with pageData: ";
-    private static final String ENTERING_COMMAND_BUILDER = "Entering static method commandBuilder";
-    private static final String PAGE_TRACE_SET = "Page trace set";
+    private static final String EXITING_COMMAND_BUILDER = "Exiting method commandBuilder with pageData: ";
+    private static final String ENTERING_COMMAND_BUILDER = "Entering method commandBuilder";
+    private static final String CONTENT_SEPARATOR = " / ";
     private static final int PAGEDATA_COMPONENT_MAX = 10;
-
-    private static ArrayDeque<String> pageTrace;
     private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
 
+    private final ArrayDeque<String> pageTrace;
+
     /**
-     * Static function to update the current page trace to determine context.
-     * @param pageTraceNew An arraydeque of strings to overwrite the page trace with.
+     * Constructor for a parser bound to the page trace of one session. The trace is only read, never copied, so
+     * every session or worker thread owning its own parser can parse concurrently.
+     * @param pageTrace The page trace of the session, updated by the commands it executes.
      */
-    public static void setPageTrace(ArrayDeque<String> pageTraceNew) {
+    public Parser(ArrayDeque<String> pageTrace) {
         LOGGER.setUseParentHandlers(true);
         LOGGER.setLevel(Level.WARNING);
-        LOGGER.info(PAGE_TRACE_SET);
-        for (String string : pageTraceNew) {
-            LOGGER.fine(string);
-        }
-        pageTrace = pageTraceNew;
+        this.pageTrace = pageTrace;
     }
 
     /**
-     * Appends the page or page and "modules" from pageTrace.
-     * @param pageData The original empty page data.
-     * @param tempPageTrace The cloned version of the original ArrayDeque pageTrace.
-     * @param lastElement The last element of the ArrayDeque pageTrace.
-     * @return The full page data.
+     * Builds the page data of the current page, which is the page and maybe module code from the page context.
+     * @param page The page to use.
+     * @param pageContext The page context of the session when parsing started.
+     * @return The full page data components.
      */
-    private static String emptyPageComponentAppender(String pageData, ArrayDeque<String> tempPageTrace,
-                                                     String lastElement) {
-        LOGGER.setLevel(Level.FINER);
+    private static String[] emptyPageComponentAppender(String page, PageContext pageContext) {
         LOGGER.entering(Parser.class.getName(), "emptyPageComponentAppender");
-
-        String fullPageData;
-        fullPageData = pageData.concat(lastElement);
-        tempPageTrace.removeLast();
-        if (tempPageTrace.size() != 0) {
-            String lastComponent = tempPageTrace.getLast();
-            String finalFullPageData = fullPageData.concat(" " + lastComponent.toUpperCase());
-            LOGGER.exiting(Parser.class.getName(), "emptyPageComponentAppender");
-            return finalFullPageData;
+        String[] fullPageData;
+        if (pageContext.getModuleCode() != null) {
+            fullPageData = new String[] {page, pageContext.getModuleCode().toUpperCase()};
         } else {
-            LOGGER.exiting(Parser.class.getName(), "emptyPageComponentAppender");
-            return fullPageData;
+            fullPageData = new String[] {page};
         }
+        LOGGER.exiting(Parser.class.getName(), "emptyPageComponentAppender");
+        return fullPageData;
     }
 
     /**
-     * Appends page from input and maybe module code from pageTrace to the full page data.
-     * @param pageData The original empty page data.
-     * @param firstPageComponent The first component of the split input page data.
-     * @param tempPageTrace The cloned version of the original ArrayDeque pageTrace.
-     * @return The full page data.
+     * Builds the page data from a page given in the input and maybe the module code from the page context.
+     * @param firstPageComponent The only component of the input page data.
+     * @return The full page data components.
      */
-    private static String singlePageComponentAppender(String pageData, String firstPageComponent,
-                                                      ArrayDeque<String> tempPageTrace) {
-        LOGGER.setLevel(Level.FINER);
+    private String[] singlePageComponentAppender(String firstPageComponent) {
         LOGGER.entering(Parser.class.getName(), "singlePageComponentAppender");
-        String fullPageData;
+        String[] fullPageData;
         switch (firstPageComponent) {
         case "main":
         case "calendar":
-            fullPageData = pageData.concat(firstPageComponent);
+            fullPageData = new String[] {firstPageComponent};
             break;
         case "modules":
-            fullPageData = emptyPageComponentAppender(pageData, tempPageTrace, firstPageComponent);
+            fullPageData = emptyPageComponentAppender(firstPageComponent, new PageContext(pageTrace));
             break;
         default:
             // pageData is a module code
-            fullPageData = pageData.concat("modules " + firstPageComponent.toUpperCase());
+            fullPageData = new String[] {"modules", firstPageComponent.toUpperCase()};
         }
-        LOGGER.exiting(Parser.class.getName(), "fullPageComponentAppender");
+        LOGGER.exiting(Parser.class.getName(), "singlePageComponentAppender");
         return fullPageData;
     }
 
     /**
-     * Appends both "modules" and the module code to form the full page data.
-     * @param firstPageComponent The first component of the split input page data.
-     * @param secondPageComponent The second component of the split input page data.
-     * @return The full page data.
+     * Builds the page data from both "modules" and the module code given in the input.
+     * @param firstPageComponent The first component of the input page data.
+     * @param secondPageComponent The second component of the input page data.
+     * @return The full page data components.
      * @throws InputException If the input is an invalid command.
      */
-    private static String fullPageComponentAppender(String pageData, String firstPageComponent,
-                                                    String secondPageComponent) throws InputException {
-        LOGGER.setLevel(Level.FINER);
+    private static String[] fullPageComponentAppender(String firstPageComponent, String secondPageComponent)
+            throws InputException {
         LOGGER.entering(Parser.class.getName(), "fullPageComponentAppender");
-
-        String fullPageData;
-        if (firstPageComponent.equals("modules")) {
-            fullPageData = pageData.concat("modules " + secondPageComponent.toUpperCase());
-        } else {
+        if (!firstPageComponent.equals("modules")) {
             LOGGER.warning(LOGGER_INVALID_COMMAND);
             throw new InputException(INVALID_COMMAND);
         }
         LOGGER.exiting(Parser.class.getName(), "fullPageComponentAppender");
-        return fullPageData;
+        return new String[] {firstPageComponent, secondPageComponent.toUpperCase()};
     }
 
     /**
-     * Builds the required page data for command input. Return page and maybe moduleCode.
-     * @param inputPageData The page data input.
-     * @return The full page data.
+     * Builds the required page data for command input in one pass over it. Return page and maybe moduleCode.
+     * @param inputPageData The trimmed and lower-cased page data input.
+     * @return The full page data components.
      * @throws InputException If the input is invalid.
      */
-    private static String commandBuilder(String inputPageData) throws InputException {
+    private String[] commandBuilder(String inputPageData) throws InputException {
         LOGGER.info(ENTERING_COMMAND_BUILDER);
-        String pageData = "";
-        String[] pageComponent = inputPageData.split(" ");
-        String firstPageComponent = pageComponent[0];
-        ArrayDeque<String> tempPageTrace = pageTrace.clone();
+        int separatorIndex = inputPageData.indexOf(' ');
+        String[] pageDataComponents;
 
-        if (firstPageComponent.isEmpty()) {
-            pageData = emptyPageComponentAppender(pageData, tempPageTrace, tempPageTrace.getLast());
-        } else if (pageComponent.length == 1) {
-            pageData = singlePageComponentAppender(pageData, firstPageComponent, tempPageTrace);
-        } else if (pageComponent.length == 2) {
-            String secondPageComponent = pageComponent[1];
-            pageData = fullPageComponentAppender(pageData, firstPageComponent, secondPageComponent);
+        if (inputPageData.isEmpty()) {
+            PageContext pageContext = new PageContext(pageTrace);
+            if (pageContext.getPage() == null) {
+                LOGGER.warning(LOGGER_INVALID_COMMAND);
+                throw new InputException(INVALID_COMMAND);
+            }
+            pageDataComponents = emptyPageComponentAppender(pageContext.getPage(), pageContext);
+        } else if (separatorIndex < 0) {
+            pageDataComponents = singlePageComponentAppender(inputPageData);
+        } else if (inputPageData.indexOf(' ', separatorIndex + 1) < 0) {
+            pageDataComponents = fullPageComponentAppender(inputPageData.substring(0, separatorIndex),
+                    inputPageData.substring(separatorIndex + 1));
         } else {
             LOGGER.warning(LOGGER_INVALID_COMMAND);
             throw new InputException(INVALID_COMMAND);
         }
-        assert !pageData.isEmpty();
-        LOGGER.info(EXITING_COMMAND_BUILDER + pageData);
-        return pageData;
+        LOGGER.info(() -> EXITING_COMMAND_BUILDER + String.join(" ", pageDataComponents));
+        return pageDataComponents;
     }
 
     /**
@@ -162,7 +149,6 @@ public class Parser {
      * @throws InputException If the input is invalid.
      */
     private static String actionDecider(String actionInputTrimmed) throws InputException {
-        LOGGER.setLevel(Level.FINER);
         LOGGER.entering(Parser.class.getName(), "actionDecider");
         String action;
         switch (actionInputTrimmed) {
@@ -189,40 +175,28 @@ public class Parser {
      * @return A full command that can be executed.
      * @throws SpinBoxException If there are storage errors or input errors.
      */
-    public static Command parse(String input) throws SpinBoxException {
-        LOGGER.info(PARSING_INPUT + input);
+    public Command parse(String input) throws SpinBoxException {
+        LOGGER.info(() -> PARSING_INPUT + input);
         Command command;
         String action;
-        String content;
-        String pageData;
-        String[] pageDataComponents = new String[PAGEDATA_COMPONENT_MAX];
-        String[] slashSeparate = input.split(" / ", 2);
+        String[] pageDataComponents;
+        int separatorIndex = input.indexOf(CONTENT_SEPARATOR);
+        String actionInput = (separatorIndex < 0 ? input : input.substring(0, separatorIndex)).toLowerCase();
+        String content = separatorIndex < 0 ? ""
+                : input.substring(separatorIndex + CONTENT_SEPARATOR.length()).trim();
+        String actionInputTrimmed = actionInput.trim();
 
-        try {
-            String actionInput = slashSeparate[0].toLowerCase();
-            String actionInputTrimmed = actionInput.trim();
-            if (slashSeparate.length == 1) {
-                action = actionDecider(actionInputTrimmed);
-                content = "";
-            } else if (actionInputTrimmed.equals("help") && slashSeparate.length == 2) {
-                action = actionDecider(actionInputTrimmed);
-                content = slashSeparate[1].trim();
-            } else {
-                content = slashSeparate[1].trim();
-                String[] frontComponents = slashSeparate[0].split(" ");
-                action = frontComponents[0].toLowerCase();
-                pageData = slashSeparate[0].replace(action, "");
-                String pageDataTrimmed = pageData.trim();
-                String fullPageData = commandBuilder(pageDataTrimmed.toLowerCase());
-                pageDataComponents = fullPageData.split(" ");
-            }
-            assert !action.isEmpty();
-        } catch (ArrayIndexOutOfBoundsException | StringIndexOutOfBoundsException e) {
-            LOGGER.warning(LOGGER_INVALID_COMMAND);
-            throw new InputException(INVALID_COMMAND);
+        if (separatorIndex < 0 || actionInputTrimmed.equals("help")) {
+            action = actionDecider(actionInputTrimmed);
+            pageDataComponents = new String[PAGEDATA_COMPONENT_MAX];
+        } else {
+            int actionEnd = actionInput.indexOf(' ');
+            action = actionEnd < 0 ? actionInput : actionInput.substring(0, actionEnd);
+            pageDataComponents = commandBuilder(actionInput.substring(action.length()).trim());
         }
 
-        LOGGER.info("Input: " + input + " associated with action: " + action.toLowerCase());
+        LOGGER.info(() -> "Input: " + input + " associated with action: " + action);
+        CommandInput commandInput = new CommandInput(pageDataComponents, content);
         switch (action) {
         case "bye":
             command = new ExitCommand();
@@ -231,45 +205,77 @@ public class Parser {
             command = new PopulateCommand();
             break;
         case "view":
-            command = new ViewCommand(pageDataComponents, content);
+            command = new ViewCommand(commandInput);
             break;
         case "add":
-            command = new AddCommand(pageDataComponents, content);
+            command = new AddCommand(commandInput);
             break;
         case "remove":
-            command = new RemoveCommand(pageDataComponents, content);
+            command = new RemoveCommand(commandInput);
             break;
         case "update":
-            command = new UpdateCommand(pageDataComponents, content);
+            command = new UpdateCommand(commandInput);
             break;
         case "export":
-            command = new ExportCommand(pageDataComponents, content);
+            command = new ExportCommand(commandInput);
             break;
         case "remove-*":
-            command = new RemoveMultipleCommand(pageDataComponents, content);
+            command = new RemoveMultipleCommand(commandInput);
             break;
         case "update-*":
-            command = new UpdateMultipleCommand(pageDataComponents, content);
+            command = new UpdateMultipleCommand(commandInput);
             break;
         case "score":
-            command = new ScoreCommand(pageDataComponents, content);
+            command = new ScoreCommand(commandInput);
+            break;
+        case "project":
+            command = new ProjectCommand(commandInput);
             break;
         case "find":
-            command = new FindCommand(pageDataComponents, content);
+            command = new FindCommand(commandInput);
+            break;
+        case "find-slot":
+            command = new FindSlotCommand(commandInput);
             break;
         case "set-date":
-            command = new SetDateCommand(pageDataComponents, content);
+            command = new SetDateCommand(commandInput);
             break;
         case "set-name":
-            command = new SetNameCommand(pageDataComponents, content);
+            command = new SetNameCommand(commandInput);
             break;
         case "help":
             command = new HelpCommand(content);
             break;
+        case "run":
+            command = new RunCommand(content);
+            break;
         default:
             LOGGER.warning(LOGGER_INVALID_COMMAND);
             throw new InputException(INVALID_COMMAND);
         }
         return command;
     }
-}
\ No newline at end of file
+
+    /**
+     * The page and module code a command refers to when its input leaves them out, read from the last two
+     * entries of a page trace without copying it.
+     */
+    private static final class PageContext {
+        private final String page;
+        private final String moduleCode;
+
+        private PageContext(ArrayDeque<String> pageTrace) {
+            Iterator<String> fromLast = pageTrace.descendingIterator();
+            page = fromLast.hasNext() ? fromLast.next() : null;
+            moduleCode = fromLast.hasNext() ? fromLast.next() : null;
+        }
+
+        private String getPage() {
+            return page;
+        }
+
+        private String getModuleCode() {
+            return moduleCode;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import spinbox.commands.Command;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.exceptions.StorageException;
 import spinbox.containers.ModuleContainer;
+import spinbox.entities.Module;
 
 import java.util.ArrayDeque;
 import java.util.logging.Level;
@@ -13,20 +14,36 @@ public class SpinBox {
     private Ui userInterface;
     private ModuleContainer modules;
     private ArrayDeque<String> pageTrace;
+    private Parser parser;
     private boolean shutdown = false;
+    private long dataVersion = 0;
     private static final Logger LOGGER = Logger.getLogger(SpinBox.class.getName());
+    private static final String SCRIPT_OPTION = "--script";
+    private static final String ATOMIC_OPTION = "--atomic";
 
     /**
-     * Full Constructor for CLI/GUI version of SpinBox.
+     * Constructor for CLI/GUI version of SpinBox, with its modules loaded.
      */
     public SpinBox(boolean cliMode) throws StorageException {
+        this(cliMode, true);
+    }
+
+    /**
+     * Full Constructor for CLI/GUI version of SpinBox. Modules that are not loaded right away can be loaded on
+     * another thread with ModuleContainer.loadModule and then added with addLoadedModule.
+     * @param cliMode Whether to start the CLI loop.
+     * @param loadsData Whether the stored modules are loaded right away.
+     */
+    public SpinBox(boolean cliMode, boolean loadsData) throws StorageException {
         LOGGER.setUseParentHandlers(true);
         LOGGER.setLevel(Level.INFO);
         LOGGER.entering(getClass().getName(), "full constructor");
         userInterface = new Ui(cliMode);
         pageTrace = new ArrayDeque<>();
         pageTrace.add("main");
-        modules = new ModuleContainer();
+        parser = new Parser(pageTrace);
+        DateTime.startWarmUp();
+        modules = new ModuleContainer(loadsData);
 
         if (cliMode) {
             LOGGER.info("Using CLI mode");
@@ -43,9 +60,22 @@ public class SpinBox {
     }
 
     /**
-     * Entry point into this java program, for CLI version.
+     * Entry point into this java program, for CLI version. With --script and the path of a script, optionally
+     * followed by --atomic, runs the script as the run command would and exits instead. With any other
+     * arguments, executes them as a single command and exits.
      */
     public static void main(String[] args) throws StorageException {
+        if (args.length > 1 && args[0].equals(SCRIPT_OPTION)) {
+            SpinBox spinBox = new SpinBox(false);
+            boolean isAtomic = args.length > 2 && args[2].equals(ATOMIC_OPTION);
+            String input = "run / " + args[1] + (isAtomic ? " " + ATOMIC_OPTION : "");
+            spinBox.userInterface.print(spinBox.getResponse(input, false));
+            return;
+        } else if (args.length > 0) {
+            SpinBox spinBox = new SpinBox(false, false);
+            spinBox.userInterface.print(spinBox.getOneShotResponse(String.join(" ", args)));
+            return;
+        }
         new SpinBox(true);
     }
 
@@ -71,11 +101,28 @@ public class SpinBox {
      * @return output response String to be returned to GUI/CLI.
      */
     public String getResponse(String input, boolean guiMode) {
+        return this.getResponse(input, parser, pageTrace, guiMode);
+    }
+
+    /**
+     * Method to interact with SpinBox from a client with its own pageTrace, such as a client of the server,
+     * so that the page context of one client does not affect the commands of another.
+     * @param input String input from the client.
+     * @param clientPageTrace The pageTrace of the client, which the command may change.
+     * @return output response String to be returned to the client.
+     */
+    public String getResponse(String input, ArrayDeque<String> clientPageTrace) {
+        return this.getResponse(input, new Parser(clientPageTrace), clientPageTrace, false);
+    }
+
+    private String getResponse(String input, Parser parser, ArrayDeque<String> pageTrace, boolean guiMode) {
         LOGGER.entering(getClass().getName(), "getResponse");
         LOGGER.info("User input: " + input + ", from GUI: " + guiMode);
         try {
-            Parser.setPageTrace(pageTrace);
-            Command command = Parser.parse(input);
+            Command command = parser.parse(input);
+            if (!command.isReadOnly()) {
+                dataVersion += 1;
+            }
             String response = command.execute(modules, pageTrace, userInterface, guiMode);
             this.setShutdown(command.isExit());
             LOGGER.info("Response from SpinBox:\n" + response);
@@ -88,6 +135,32 @@ public class SpinBox {
         }
     }
 
+    /**
+     * Executes a single input in a SpinBox whose modules are not loaded yet. The input is parsed first, so that a
+     * read-only command about one module only loads that module, and any other command loads every module.
+     * @param input String input from the command line.
+     * @return output response String to be printed.
+     */
+    public String getOneShotResponse(String input) {
+        LOGGER.entering(getClass().getName(), "getOneShotResponse");
+        try {
+            Command command = parser.parse(input);
+            String moduleScope = command.isReadOnly() ? command.getModuleScope() : null;
+            if (moduleScope == null) {
+                modules.loadData();
+            } else {
+                modules.loadData(moduleScope, command.getListScope());
+            }
+            String response = command.execute(modules, pageTrace, userInterface, false);
+            LOGGER.exiting(getClass().getName(), "getOneShotResponse");
+            return response;
+        } catch (SpinBoxException e) {
+            LOGGER.warning(e.getMessage());
+            LOGGER.exiting(getClass().getName(), "getOneShotResponse");
+            return userInterface.showFormatted(e.getMessage());
+        }
+    }
+
     private void setShutdown(boolean shutdown) {
         LOGGER.entering(getClass().getName(), "setShutdown");
         this.shutdown = shutdown;
@@ -98,6 +171,23 @@ public class SpinBox {
         return shutdown;
     }
 
+    /**
+     * Gets a version number of the modules, which changes whenever a command that may change them is executed.
+     * @return The version of the modules.
+     */
+    public long getDataVersion() {
+        return dataVersion;
+    }
+
+    /**
+     * Adds a module that was loaded from storage after SpinBox started.
+     * @param module The loaded module.
+     */
+    public void addLoadedModule(Module module) {
+        modules.addLoadedModule(module);
+        dataVersion += 1;
+    }
+
     public ModuleContainer getModuleContainer() {
         return modules;
     }
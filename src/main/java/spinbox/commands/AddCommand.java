@@ -16,15 +16,15 @@ import spinbox.entities.items.tasks.Event;
 import spinbox.entities.items.tasks.Exam;
 import spinbox.entities.items.tasks.Lab;
 import spinbox.entities.items.tasks.Lecture;
+import spinbox.entities.items.tasks.Recurrence;
+import spinbox.entities.items.tasks.Schedulable;
 import spinbox.entities.items.tasks.Tutorial;
 import spinbox.entities.items.tasks.Task;
 import spinbox.entities.items.tasks.Todo;
-import spinbox.entities.items.tasks.Schedulable;
 import spinbox.containers.lists.TaskList;
 
 import java.util.ArrayDeque;
 import java.util.HashMap;
-import java.util.List;
 
 public class AddCommand extends Command {
     private static final String MODULE_ADDED = "The following module has been added to SpinBox: ";
@@ -52,7 +52,9 @@ public class AddCommand extends Command {
     private static final String TODO_FORMAT = "add <moduleCode> / todo <fileName>";
     private static final String DEADLINE_FORMAT = "add <moduleCode> / deadline <taskName> by: <MM/DD/YYYY HH:MM>";
     private static final String EVENT_FORMAT = "add <moduleCode> / <eventType> <taskName> at: "
-        + "<start as MM/DD/YYYY HH:MM> to <end as MM/DD/YYYY HH:MM>";
+        + "<start as MM/DD/YYYY HH:MM> to <end as MM/DD/YYYY HH:MM>\n"
+        + "To repeat it weekly, append: weekly until: <MM/DD/YYYY> [except: <MM/DD/YYYY>,<MM/DD/YYYY>]";
+    private static final String EXAM_RECURRENCE = "Sorry, exams cannot recur weekly.";
     private static final String MODULE_FORMAT = "add / module <moduleCode> <moduleName>";
     private static final String EMPTY_TODO_DESCRIPTION = "☹ OOPS!!! The description of a task cannot be empty.";
     private static final String EMPTY_DEADLINE_DESCRIPTION = "☹ OOPS!!! The description of a deadline cannot be empty.";
@@ -66,19 +68,21 @@ public class AddCommand extends Command {
 
     private String type;
     private String moduleCode;
-    private String content;
+    private String[] tokens;
+    private String arguments;
 
     /**
      * Constructor for initialization of variables to support addition of entities.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public AddCommand(String[] pageDataComponents, String content) throws InputException {
+    public AddCommand(CommandInput input) throws InputException {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
+        this.arguments = input.getArguments();
     }
 
     @Override
@@ -97,7 +101,7 @@ public class AddCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    String fileName = content.replaceFirst(type, "").trim();
+                    String fileName = arguments;
                     fileAdded = files.add(new File(0, fileName));
                     return HORIZONTAL_LINE + "\nAdded into " + module.toString() + " file: " + fileAdded.toString()
                             + "\nYou currently have " + files.size()
@@ -117,7 +121,7 @@ public class AddCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
-                    String noteContent = content.replaceFirst(type, "").trim();
+                    String noteContent = arguments;
                     notepad.addLine(noteContent);
                     return HORIZONTAL_LINE + "\n" + NOTE_ADDED + moduleCode + "\n" + HORIZONTAL_LINE;
                 } else {
@@ -134,7 +138,7 @@ public class AddCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     GradeList gradeList = module.getGrades();
-                    String gradedComponentDetails = content.replaceFirst(type, "").trim();
+                    String gradedComponentDetails = arguments;
                     gradedComponentDetails = gradedComponentDetails.replace("%", "");
 
                     String gradedComponentName =  gradedComponentDetails.substring(0,
@@ -142,7 +146,7 @@ public class AddCommand extends Command {
 
                     double weightage = Double.parseDouble(gradedComponentDetails.split("weightage: ")[1]);
 
-                    if (gradedComponentDetails.split(" ")[0].equals("weightage:")) {
+                    if (tokens.length > 1 && tokens[1].equals("weightage:")) {
                         throw new InputException(EMPTY_GRADE_DESCRIPTION);
                     }
 
@@ -166,7 +170,7 @@ public class AddCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    String taskDescription = content.replaceFirst(type, "").trim();
+                    String taskDescription = arguments;
                     if (taskDescription.equals("")) {
                         throw new InputException(EMPTY_TODO_DESCRIPTION);
                     }
@@ -190,8 +194,8 @@ public class AddCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    String taskDescription = content.replaceFirst(type, "").trim();
-                    if (taskDescription.split(" ")[0].equals("by:")) {
+                    String taskDescription = arguments;
+                    if (tokens.length > 1 && tokens[1].equals("by:")) {
                         throw new InputException(EMPTY_DEADLINE_DESCRIPTION);
                     }
                     start = new DateTime(taskDescription.split("by: ")[1]);
@@ -218,8 +222,8 @@ public class AddCommand extends Command {
                 if (moduleContainer.checkModuleExists(moduleCode)) {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
-                    String taskDescription = content.replaceFirst(type, "").trim();
-                    if (taskDescription.split(" ")[0].equals("at:")) {
+                    String taskDescription = arguments;
+                    if (tokens.length > 1 && tokens[1].equals("at:")) {
                         if (this.type.equals("event")) {
                             throw new InputException(EMPTY_EVENT_DESCRIPTION);
                         } else if (this.type.equals("exam")) {
@@ -233,39 +237,37 @@ public class AddCommand extends Command {
                         }
                     }
                     TaskList tasks = module.getTasks();
-                    start = new DateTime(taskDescription.split("at: ")[1], 0);
-                    end = new DateTime(taskDescription.split("at: ")[1], 1);
-                    List<Task> tasksList = tasks.getList();
-                    for (int i = 0; i < tasksList.size(); i++) {
-                        Task currentTask = tasksList.get(i);
-                        if (currentTask.isSchedulable()) {
-                            if (((Schedulable) currentTask).isOverlapping(start, end)) {
-                                throw new InputException("Time conflicting with:\n"
-                                        + "    " + (i + 1) + "." + currentTask.toString() + "\n"
-                                        + "Please choose another time interval.");
-                            }
+                    Recurrence recurrence = null;
+                    int recurrenceIndex = taskDescription.lastIndexOf(" " + Recurrence.RULE_PREFIX);
+                    if (recurrenceIndex >= 0) {
+                        if (this.type.equals("exam")) {
+                            throw new InputException(EXAM_RECURRENCE);
                         }
+                        recurrence = Recurrence.fromString(taskDescription.substring(recurrenceIndex + 1));
+                        taskDescription = taskDescription.substring(0, recurrenceIndex);
                     }
+                    start = new DateTime(taskDescription.split("at: ")[1], 0);
+                    end = new DateTime(taskDescription.split("at: ")[1], 1);
+                    String taskName = taskDescription.substring(0, taskDescription.lastIndexOf(" at:"));
+                    Schedulable newTask;
                     if (this.type.equals("exam")) {
-                        taskAdded = tasks.add(new Exam(taskDescription.substring(0,
-                                taskDescription.lastIndexOf(" at:")), start, end));
+                        newTask = new Exam(taskName, start, end);
                     } else if (this.type.equals("lab")) {
-                        taskAdded = tasks.add(new Lab(taskDescription.substring(0,
-                                taskDescription.lastIndexOf(" at:")), start, end));
+                        newTask = new Lab(taskName, start, end);
                     } else if (this.type.equals("lecture")) {
-                        taskAdded = tasks.add(new Lecture(taskDescription.substring(0,
-                                taskDescription.lastIndexOf(" at:")), start, end));
+                        newTask = new Lecture(taskName, start, end);
                     } else if (this.type.equals("tutorial")) {
-                        taskAdded = tasks.add(new Tutorial(taskDescription.substring(0,
-                                taskDescription.lastIndexOf(" at:")), start, end));
+                        newTask = new Tutorial(taskName, start, end);
                     } else {
-                        taskAdded = tasks.add(new Event(taskDescription.substring(0,
-                                taskDescription.lastIndexOf(" at:")), start, end));
+                        newTask = new Event(taskName, start, end);
                     }
+                    newTask.setRecurrence(recurrence);
+                    String clashes = this.checkForClashes(moduleContainer, tasks, newTask, null);
+                    taskAdded = tasks.add(newTask);
                     return HORIZONTAL_LINE + "\nAdded into " + module.toString() + " task: " + taskAdded.toString()
                             + "\nYou currently have " + tasks.size()
                             + ((tasks.size() == 1) ? " task in the list." : " tasks in the list.") + "\n"
-                            + HORIZONTAL_LINE;
+                            + clashes + HORIZONTAL_LINE;
                 } else {
                     return NON_EXISTENT_MODULE;
                 }
@@ -275,9 +277,11 @@ public class AddCommand extends Command {
 
         case "module":
             try {
-                String[] contentComponents = content.split(" ", 3);
-                moduleCode = contentComponents[1].toUpperCase();
-                String moduleName = contentComponents[2];
+                moduleCode = tokens[1].toUpperCase();
+                String moduleName = arguments.substring(tokens[1].length()).trim();
+                if (moduleName.isEmpty()) {
+                    throw new InputException(MODULE_ERROR_MESSAGE + MODULE_FORMAT);
+                }
                 if (!moduleContainer.checkModuleExists(moduleCode)) {
                     Module module = new Module(this.moduleCode, moduleName);
                     moduleContainer.addModule(module);
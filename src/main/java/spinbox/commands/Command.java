@@ -1,16 +1,26 @@
 package spinbox.commands;
 
+import javafx.util.Pair;
+import spinbox.DateTime;
 import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.TaskList;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
 import spinbox.exceptions.InputException;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.Ui;
 
 import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 public abstract class Command {
     protected static final String HORIZONTAL_LINE = "____________________________________________________________";
     private static final String NOT_ON_MODULE_PAGE = "Please be on a module page or indicate "
             + "the specific module this action is for.";
+    private static final String TIME_CONFLICT = "Time conflicting with:\n";
+    private static final String CHOOSE_ANOTHER_TIME = "Please choose another time interval.";
+    private static final String CLASHES_WITH_OTHER_MODULES = "Note that this clashes with:\n";
     private boolean isExit;
 
     public abstract String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui,
@@ -24,6 +34,31 @@ public abstract class Command {
         isExit = exit;
     }
 
+    /**
+     * Checks if the command only reads the modules, so that views of them stay current after it is executed.
+     * @return True if the command never changes the modules.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Gets the only module a read-only command reads, so that a one-shot run can load just that module.
+     * @return The module code, or null if the command may read any module.
+     */
+    public String getModuleScope() {
+        return null;
+    }
+
+    /**
+     * Gets the only list of its module that a read-only command reads, so that a one-shot run can load just that
+     * list. Only used when the command also has a module scope.
+     * @return The tab of the list, "tasks", "files", "grades" or "notes", or null if the command may read any list.
+     */
+    public String getListScope() {
+        return null;
+    }
+
     /**
      * Check when there is a moduleCode indicated from the constructor.
      * @param moduleCode the moduleCode variable.
@@ -36,4 +71,37 @@ public abstract class Command {
         }
         return true;
     }
+
+    /**
+     * Checks every occurrence of a task against the tasks of every module before it is scheduled.
+     * @param moduleContainer The container of all modules.
+     * @param tasks The task list the task is scheduled into.
+     * @param scheduledTask The task to be scheduled, not yet in the task list.
+     * @param rescheduledTask The task being replaced by the scheduled task, which cannot clash with it, or null.
+     * @return A note listing the clashing tasks of other modules, or an empty string if there are none.
+     * @throws InputException if the task clashes with another task of the same module.
+     */
+    protected String checkForClashes(ModuleContainer moduleContainer, TaskList tasks, Schedulable scheduledTask,
+                                     Task rescheduledTask) throws InputException {
+        Set<Pair<String, Task>> clashingEntries = new LinkedHashSet<>();
+        for (Pair<DateTime, DateTime> occurrence : scheduledTask.getOccurrences()) {
+            clashingEntries.addAll(moduleContainer.getTaskIndex().getOverlappingTasks(occurrence.getKey(),
+                    occurrence.getValue()));
+        }
+
+        String otherModuleClashes = "";
+        for (Pair<String, Task> entry : clashingEntries) {
+            Task clashingTask = entry.getValue();
+            if (clashingTask == rescheduledTask) {
+                continue;
+            }
+            if (entry.getKey().equals(tasks.getParentCode())) {
+                throw new InputException(TIME_CONFLICT + "    " + (tasks.getList().indexOf(clashingTask) + 1)
+                        + "." + clashingTask.toString() + "\n" + CHOOSE_ANOTHER_TIME);
+            }
+            otherModuleClashes = otherModuleClashes.concat("    " + entry.getKey() + ": "
+                    + clashingTask.toString() + "\n");
+        }
+        return otherModuleClashes.isEmpty() ? "" : CLASHES_WITH_OTHER_MODULES + otherModuleClashes;
+    }
 }
@@ -0,0 +1,85 @@
+package spinbox.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The input of a command as split by the parser: its page data components, its content after ' / ', and that
+ * content split once into its space-separated tokens, the first of which names the item type the command acts on.
+ */
+public class CommandInput {
+    private static final char TOKEN_SEPARATOR = ' ';
+
+    private final String[] pageDataComponents;
+    private final String content;
+    private final String[] tokens;
+    private final String type;
+
+    /**
+     * Constructor for the input of a command, splitting its content into tokens.
+     * @param pageDataComponents The page data components of the command.
+     * @param content The trimmed content of the command.
+     */
+    public CommandInput(String[] pageDataComponents, String content) {
+        this.pageDataComponents = pageDataComponents;
+        this.content = content;
+        this.tokens = tokenize(content);
+        this.type = tokens.length == 0 ? "" : tokens[0].toLowerCase();
+    }
+
+    /**
+     * Splits content on single spaces in one pass, giving the same tokens as content.split(" ").
+     * @param content The content to split.
+     * @return The tokens of the content.
+     */
+    private static String[] tokenize(String content) {
+        List<String> tokens = new ArrayList<>();
+        int tokenStart = 0;
+        for (int i = 0; i <= content.length(); i++) {
+            if (i == content.length() || content.charAt(i) == TOKEN_SEPARATOR) {
+                tokens.add(content.substring(tokenStart, i));
+                tokenStart = i + 1;
+            }
+        }
+        if (content.isEmpty()) {
+            return new String[] {content};
+        }
+        int tokenCount = tokens.size();
+        while (tokenCount > 0 && tokens.get(tokenCount - 1).isEmpty()) {
+            tokenCount--;
+        }
+        return tokens.subList(0, tokenCount).toArray(new String[0]);
+    }
+
+    public String[] getPageDataComponents() {
+        return pageDataComponents;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the tokens of the content. The array is shared, so callers must not modify it.
+     * @return The space-separated tokens of the content.
+     */
+    public String[] getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns the lower-cased first token of the content, or an empty string if there is none.
+     * @return The item type the command acts on.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the content after its first token, which is what is left once the item type is taken off.
+     * @return The trimmed content after the item type.
+     */
+    public String getArguments() {
+        return tokens.length == 0 ? "" : content.substring(tokens[0].length()).trim();
+    }
+}
@@ -1,5 +1,6 @@
 package spinbox.commands;
 
+import javafx.util.Pair;
 import spinbox.Ui;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
@@ -15,9 +16,6 @@ import spinbox.exceptions.SpinBoxException;
 import spinbox.datapersistors.exporter.Exporter;
 
 import java.util.ArrayDeque;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,27 +26,44 @@ public class ExportCommand extends Command {
     private static final String FILE_HEADER = "These are your files for ";
     private static final String GRADED_COMPONENTS_HEADER = "These are your graded components for ";
     private static final String TASKS_HEADER = "These are your tasks for ";
+    private static final String ARCHIVE_HEADER = "These are your archived tasks for ";
     private static final String FILENAME_MODIFIER_FILES = "_files.txt";
     private static final String FILENAME_MODIFIER_GRADES = "_grades.txt";
     private static final String FILENAME_MODIFIER_TASKS = "_tasks.txt";
+    private static final String FILENAME_MODIFIER_ARCHIVE = "_archive.txt";
     private static final String ACKNOWLEDGEMENT = "Your selected items have been exported to SpinBoxData/exports";
     private static final String NON_EXISTENT_MODULE = "Sorry, that module does not exist.";
     private static final String NON_EXISTENT_CATEGORY = "Sorry, that category does not exist. Please choose one of"
-            + " [tasks, files, grades]";
+            + " [tasks, files, grades, archive]";
 
     private String type;
     private String moduleCode;
 
     /**
      * Constructor for exporting items belonging to a module.
-     * @param pageDataComponents The current page context.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public ExportCommand(String[] pageDataComponents, String content) {
+    public ExportCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String getModuleScope() {
+        return type.equals("deadlines") ? null : moduleCode;
+    }
+
+    @Override
+    public String getListScope() {
+        return type.equals("archive") ? "tasks" : type;
     }
 
     @Override
@@ -87,22 +102,20 @@ public class ExportCommand extends Command {
             exporter.writeData(exportList);
             break;
 
+        case "archive":
+            exporter = new Exporter(EXPORT_LOCATION + moduleCode + FILENAME_MODIFIER_ARCHIVE,
+                    ARCHIVE_HEADER + moduleCode);
+            exportList = ExportConverter.convertForExport(module.getTasks().getArchivedTasks());
+            exporter.writeData(exportList);
+            break;
+
         case "deadlines":
             exporter = new Exporter(EXPORT_LOCATION + COMMON_DEADLINES, DEADLINES_HEADER);
-            SortedSet<Deadline> deadlinesList = new TreeSet<>(new TaskList.TaskComparator());
-
-            for (HashMap.Entry<String, Module> entry : moduleContainer.getModules().entrySet()) {
-                Module currentModule = entry.getValue();
-                TaskList currentTasks = currentModule.getTasks();
-                List<Task> tasks = currentTasks.getList();
-
-                for (Task task : tasks) {
-                    if (task.getTaskType() == TaskType.DEADLINE) {
-                        deadlinesList.add((Deadline) task);
-                    }
-                }
+            List<Deadline> deadlinesList = new ArrayList<>();
+            for (Pair<String, Task> entry : moduleContainer.getTaskIndex().getTasks(TaskType.DEADLINE)) {
+                deadlinesList.add((Deadline) entry.getValue());
             }
-            exportList = ExportConverter.convertForExport(new ArrayList<>(deadlinesList));
+            exportList = ExportConverter.convertForExport(deadlinesList);
             exporter.writeData(exportList);
             break;
 
@@ -30,25 +30,27 @@ public class FindCommand extends Command {
     private static final String FIND_ERROR_MESSAGE = "Please ensure that you enter "
             + "the full command for find commands:\n";
     private static final String FIND_FORMAT = "find <moduleCode> / <type> <keyword>\n";
+    private static final String ARCHIVED_FLAG = "archived:";
+    private static final String ONLY_TASKS_ARCHIVED = "Sorry, only tasks are archived.";
     private static final String NO_MODULE_CODE = "No module code indicated.";
     private static final String NON_EXISTENT_MODULE = "This module does not exist.";
 
     private String type;
     private String moduleCode;
-    private String content;
+    private String arguments;
     private String keyword;
 
     /**
      * Constructor for finding tasks using a keyword.
-     * @param pageDataComponents pageDataComponents.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      * @throws InputException missing keyword
      */
-    public FindCommand(String[] pageDataComponents, String content) throws InputException {
+    public FindCommand(CommandInput input) throws InputException {
         LOGGER.setLevel(Level.INFO);
         LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
 
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
             LOGGER.fine(LOG_MODULE_CODE + moduleCode);
@@ -59,12 +61,28 @@ public class FindCommand extends Command {
 
         assert !moduleCode.isEmpty();
 
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+        this.arguments = input.getArguments();
 
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String getModuleScope() {
+        return moduleCode;
+    }
+
+    @Override
+    public String getListScope() {
+        // Each item type searched names the tab of its list in the singular.
+        return type + "s";
+    }
+
     /**
      * Finds the items in the list containing keyword in the name.
      * @param moduleContainer Container of all the modules.
@@ -79,15 +97,23 @@ public class FindCommand extends Command {
             SpinBoxException {
         LOGGER.entering(getClass().getName(), "execute");
 
-        String[] contentComponents = content.split(" ", 2);
-        try {
-            keyword = contentComponents[1].trim();
-            assert !keyword.isEmpty();
-        } catch (IndexOutOfBoundsException e) {
+        keyword = arguments;
+        if (keyword.isEmpty()) {
             LOGGER.severe(LOG_EMPTY_KEYWORD);
             return FIND_ERROR_MESSAGE + FIND_FORMAT;
         }
 
+        boolean searchesArchive = keyword.toLowerCase().startsWith(ARCHIVED_FLAG);
+        if (searchesArchive) {
+            keyword = keyword.substring(ARCHIVED_FLAG.length()).trim();
+            if (keyword.isEmpty()) {
+                LOGGER.severe(LOG_EMPTY_KEYWORD);
+                return FIND_ERROR_MESSAGE + FIND_FORMAT;
+            } else if (!type.equals("task")) {
+                throw new InputException(ONLY_TASKS_ARCHIVED);
+            }
+        }
+
         checkIfOnModulePage(moduleCode);
         assert checkIfOnModulePage(moduleCode) : NO_MODULE_CODE;
 
@@ -106,7 +132,8 @@ public class FindCommand extends Command {
                 break;
             case "task":
                 TaskList taskList = module.getTasks();
-                contains = taskList.containsKeyword(keyword);
+                contains = searchesArchive ? taskList.archiveContainsKeyword(keyword)
+                        : taskList.containsKeyword(keyword);
                 LOGGER.fine(LOG_TASK_LIST);
                 break;
             case "grade":
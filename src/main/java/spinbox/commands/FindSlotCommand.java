@@ -0,0 +1,117 @@
+package spinbox.commands;
+
+import javafx.util.Pair;
+import spinbox.DateTime;
+import spinbox.Ui;
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.DateFormatException;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class FindSlotCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(FindSlotCommand.class.getName());
+    private static final String LOG_INVALID_FORMAT = "Find-slot format is invalid.";
+    private static final String LOG_SLOTS_FOUND = "Free slots found: ";
+    private static final String INVALID_FORMAT = "Please use the valid find-slot format:\n"
+            + "find-slot / <duration> between: <start as MM/DD/YYYY HH:MM> and <end as MM/DD/YYYY HH:MM>\n"
+            + "The duration is given in hours and/or minutes, e.g. 2h, 45m or 1h30m.";
+    private static final String INVALID_DURATION = "Please enter a duration longer than 0 minutes, "
+            + "e.g. 2h, 45m or 1h30m.";
+    private static final String INVALID_WINDOW = "Please ensure that the end of the search window is after "
+            + "its start.";
+    private static final String NO_FREE_SLOTS = "There are no free slots of at least ";
+    private static final String FREE_SLOTS = "Here are the free slots of at least ";
+    private static final String BETWEEN = " between: ";
+    private static final String AND = " and ";
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(?:(\\d+)h)?(?:(\\d+)m)?");
+
+    private String content;
+
+    /**
+     * Constructor for initialization of variables to support finding free slots.
+     * @param input The processed user input, with its content already split into tokens.
+     */
+    public FindSlotCommand(CommandInput input) {
+        LOGGER.setLevel(Level.INFO);
+        LOGGER.setUseParentHandlers(true);
+        this.content = input.getContent();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        LOGGER.entering(getClass().getName(), "execute");
+        String[] contentComponents = content.split(BETWEEN, 2);
+        if (contentComponents.length < 2 || !contentComponents[1].contains(AND)) {
+            LOGGER.severe(LOG_INVALID_FORMAT);
+            throw new InputException(INVALID_FORMAT);
+        }
+        String durationString = contentComponents[0].trim().toLowerCase();
+        long minimumDuration = parseDuration(durationString);
+
+        DateTime from;
+        DateTime to;
+        String window = contentComponents[1].trim();
+        try {
+            from = new DateTime(window.substring(0, window.lastIndexOf(AND)).trim());
+            to = new DateTime(window.substring(window.lastIndexOf(AND) + AND.length()).trim());
+        } catch (DateFormatException | IndexOutOfBoundsException e) {
+            LOGGER.severe(LOG_INVALID_FORMAT);
+            throw new InputException(INVALID_FORMAT);
+        }
+        if (!from.before(to)) {
+            throw new InputException(INVALID_WINDOW);
+        }
+
+        List<Pair<DateTime, DateTime>> freeSlots = moduleContainer.getTaskIndex().getFreeSlots(from, to,
+                minimumDuration);
+        LOGGER.fine(LOG_SLOTS_FOUND + freeSlots.size());
+        LOGGER.exiting(getClass().getName(), "execute");
+
+        String windowDescription = durationString + BETWEEN + from.toString() + AND + to.toString();
+        if (freeSlots.isEmpty()) {
+            return HORIZONTAL_LINE + "\n" + NO_FREE_SLOTS + windowDescription + "\n" + HORIZONTAL_LINE;
+        }
+        String output = HORIZONTAL_LINE + "\n" + FREE_SLOTS + windowDescription + ":\n";
+        for (int i = 0; i < freeSlots.size(); i++) {
+            output = output.concat((i + 1) + ". " + freeSlots.get(i).getKey().toString() + " to "
+                    + freeSlots.get(i).getValue().toString() + "\n");
+        }
+        return output + HORIZONTAL_LINE;
+    }
+
+    private static long parseDuration(String durationString) throws InputException {
+        Matcher matcher = DURATION_PATTERN.matcher(durationString.replace(" ", ""));
+        if (durationString.isEmpty() || !matcher.matches()) {
+            LOGGER.severe(LOG_INVALID_FORMAT);
+            throw new InputException(INVALID_FORMAT);
+        }
+        long hours;
+        long minutes;
+        try {
+            hours = matcher.group(1) == null ? 0 : Long.parseLong(matcher.group(1));
+            minutes = matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2));
+        } catch (NumberFormatException e) {
+            LOGGER.severe(LOG_INVALID_FORMAT);
+            throw new InputException(INVALID_FORMAT);
+        }
+        long duration = TimeUnit.HOURS.toMillis(hours) + TimeUnit.MINUTES.toMillis(minutes);
+        if (duration <= 0) {
+            throw new InputException(INVALID_DURATION);
+        }
+        return duration;
+    }
+}
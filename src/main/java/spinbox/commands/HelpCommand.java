@@ -17,6 +17,11 @@ public class HelpCommand extends Command {
         this.specificCommand = content;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
             SpinBoxException {
@@ -53,6 +58,9 @@ public class HelpCommand extends Command {
             case "score":
                 helpOutput = helpText.score;
                 break;
+            case "project":
+                helpOutput = helpText.project;
+                break;
             case "export":
                 helpOutput = helpText.export;
                 break;
@@ -62,6 +70,12 @@ public class HelpCommand extends Command {
             case "find":
                 helpOutput = helpText.find;
                 break;
+            case "find-slot":
+                helpOutput = helpText.findSlot;
+                break;
+            case "run":
+                helpOutput = helpText.run;
+                break;
             default:
                 throw new InputException(COMMAND_NOT_FOUND);
             }
@@ -2,6 +2,7 @@ package spinbox.commands;
 
 import spinbox.Ui;
 import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.InputException;
 import spinbox.exceptions.SpinBoxException;
 
 import java.util.ArrayDeque;
@@ -24,6 +25,14 @@ public class PopulateCommand extends Command {
     private static final String[] CS2101_CONTEXT = {"modules", "CS2101"};
     private static final String[] CS2113T_CONTEXT = {"modules", "CS2113T"};
 
+    private static Command add(String[] pageDataComponents, String content) throws InputException {
+        return new AddCommand(new CommandInput(pageDataComponents, content));
+    }
+
+    private static Command update(String[] pageDataComponents, String content) {
+        return new UpdateCommand(new CommandInput(pageDataComponents, content));
+    }
+
     @Override
     public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
             throws SpinBoxException {
@@ -31,45 +40,45 @@ public class PopulateCommand extends Command {
         if (moduleContainer.getModules().isEmpty()) {
             Queue<Command> commandsToExecute = new LinkedList<>();
 
-            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CS2113T Software Engineering & OOP"));
-            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "todo prepare for PE"));
-            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "note Complete the grades section"));
-            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "grade exam weightage: 40%"));
-            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "grade project weightage: 50%"));
+            commandsToExecute.add(add(EMPTY_CONTEXT, "module CS2113T Software Engineering & OOP"));
+            commandsToExecute.add(add(CS2113T_CONTEXT, "todo prepare for PE"));
+            commandsToExecute.add(add(CS2113T_CONTEXT, "note Complete the grades section"));
+            commandsToExecute.add(add(CS2113T_CONTEXT, "grade exam weightage: 40%"));
+            commandsToExecute.add(add(CS2113T_CONTEXT, "grade project weightage: 50%"));
 
 
-            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CS2101 Communication for "
+            commandsToExecute.add(add(EMPTY_CONTEXT, "module CS2101 Communication for "
                     + "Computing Professionals"));
-            commandsToExecute.add(new AddCommand(CS2101_CONTEXT, "file conflict-resolution.pptx"));
-            commandsToExecute.add(new AddCommand(CS2101_CONTEXT, "file team-meeting.docx"));
-            commandsToExecute.add(new AddCommand(CS2101_CONTEXT, "file feedback.xlsx"));
-            commandsToExecute.add(new UpdateCommand(CS2101_CONTEXT, "file 1 done"));
+            commandsToExecute.add(add(CS2101_CONTEXT, "file conflict-resolution.pptx"));
+            commandsToExecute.add(add(CS2101_CONTEXT, "file team-meeting.docx"));
+            commandsToExecute.add(add(CS2101_CONTEXT, "file feedback.xlsx"));
+            commandsToExecute.add(update(CS2101_CONTEXT, "file 1 done"));
 
 
-            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CG2271 Real-Time Operating Systems"));
-            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "deadline Accumulate 300 impress points "
+            commandsToExecute.add(add(EMPTY_CONTEXT, "module CG2271 Real-Time Operating Systems"));
+            commandsToExecute.add(add(CG2271_CONTEXT, "deadline Accumulate 300 impress points "
                     + "by: next friday"));
-            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "todo Start attending tutorials"));
-            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "lecture 2271 at: next tuesday 2pm to next "
+            commandsToExecute.add(add(CG2271_CONTEXT, "todo Start attending tutorials"));
+            commandsToExecute.add(add(CG2271_CONTEXT, "lecture 2271 at: next tuesday 2pm to next "
                     + "tuesday 4pm"));
-            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "grade midterms weightage: 20%"));
-            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "file slides"));
-            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "note I love in-class quizzes"));
-            commandsToExecute.add(new UpdateCommand(CG2271_CONTEXT, "task 2 done"));
+            commandsToExecute.add(add(CG2271_CONTEXT, "grade midterms weightage: 20%"));
+            commandsToExecute.add(add(CG2271_CONTEXT, "file slides"));
+            commandsToExecute.add(add(CG2271_CONTEXT, "note I love in-class quizzes"));
+            commandsToExecute.add(update(CG2271_CONTEXT, "task 2 done"));
 
 
-            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module ST2334 Probability & Statistics"));
-            commandsToExecute.add(new AddCommand(ST2334_CONTEXT, "lab 2334 at: next wednesday 2pm to next "
+            commandsToExecute.add(add(EMPTY_CONTEXT, "module ST2334 Probability & Statistics"));
+            commandsToExecute.add(add(ST2334_CONTEXT, "lab 2334 at: next wednesday 2pm to next "
                     + "wednesday 8pm"));
-            commandsToExecute.add(new AddCommand(ST2334_CONTEXT, "tutorial 2334 at: next monday 10am to next "
+            commandsToExecute.add(add(ST2334_CONTEXT, "tutorial 2334 at: next monday 10am to next "
                     + "monday 1pm"));
 
 
-            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CS3216 Software Product Engineering"
+            commandsToExecute.add(add(EMPTY_CONTEXT, "module CS3216 Software Product Engineering"
                     + " for Digital Markets"));
-            commandsToExecute.add(new AddCommand(CS3216_CONTEXT, "lecture 3216 at: next monday 6:30pm to next "
+            commandsToExecute.add(add(CS3216_CONTEXT, "lecture 3216 at: next monday 6:30pm to next "
                     + "monday 8:30pm"));
-            commandsToExecute.add(new AddCommand(CS3216_CONTEXT, "note weird flex but ok"));
+            commandsToExecute.add(add(CS3216_CONTEXT, "note weird flex but ok"));
 
             while (!commandsToExecute.isEmpty()) {
                 Command command = commandsToExecute.remove();
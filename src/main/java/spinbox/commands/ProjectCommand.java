@@ -0,0 +1,136 @@
+package spinbox.commands;
+
+import spinbox.Ui;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.GradeList;
+import spinbox.entities.GradeProjection;
+import spinbox.entities.Module;
+import spinbox.entities.items.GradedComponent;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.text.DecimalFormat;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ProjectCommand extends Command {
+    private static final String NON_EXISTENT_MODULE = "This module does not exist.";
+    private static final String INVALID_FORMAT = "Please use the valid project format:\n"
+            + "Single module: [project <moduleCode> / <target>%]\n"
+            + "All modules: [project main / <target>%]";
+    private static final String INVALID_TARGET = "Please enter a target percentage between 0 and 100.";
+    private static final String NO_MODULES = "There are no modules to project grades for.";
+    private static final String TWO_DP = "#.##";
+    private static final String PERCENT = "%";
+    private static final String PROJECTION_HEADER = "Projection towards a target of ";
+    private static final String WORST_CASE = "Worst case (no further marks): ";
+    private static final String BEST_CASE = "Best case (full marks on the rest): ";
+    private static final String SECURED = "Target secured: it is reached even without further marks.";
+    private static final String UNREACHABLE = "Target unreachable: even full marks on the rest fall short.";
+    private static final String REQUIRED = "Score at least ";
+    private static final String REQUIRED_ON_EACH = " on each remaining component:";
+    private static final String REQUIRED_ON_REMAINING = " on the remaining ";
+    private static final double MAXIMUM_TARGET = 100.0;
+
+    private String moduleCode;
+    private String content;
+
+    /**
+     * Constructor for initialization of variables to support projection of grades.
+     * @param input The processed user input, with its content already split into tokens.
+     */
+    public ProjectCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
+        if (pageDataComponents.length > 1) {
+            this.moduleCode = pageDataComponents[1];
+        }
+        this.content = input.getContent();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        double target = this.parseTarget();
+        if (moduleCode == null) {
+            return this.projectAllModules(moduleContainer, target);
+        } else if (moduleContainer.checkModuleExists(moduleCode)) {
+            return this.projectModule(moduleContainer.getModule(moduleCode), target);
+        } else {
+            return NON_EXISTENT_MODULE;
+        }
+    }
+
+    private double parseTarget() throws InputException {
+        double target;
+        try {
+            target = Double.parseDouble(content.replace(PERCENT, "").trim());
+        } catch (NumberFormatException e) {
+            throw new InputException(INVALID_FORMAT);
+        }
+        if (target < 0 || target > MAXIMUM_TARGET) {
+            throw new InputException(INVALID_TARGET);
+        }
+        return target;
+    }
+
+    private String projectModule(Module module, double target) {
+        DecimalFormat decimalFormat = new DecimalFormat(TWO_DP);
+        GradeList gradeList = module.getGrades();
+        GradeProjection projection = gradeList.getProjection();
+
+        String output = HORIZONTAL_LINE + "\n" + PROJECTION_HEADER + decimalFormat.format(target) + PERCENT
+                + " for " + module.getModuleCode() + ":\n"
+                + WORST_CASE + decimalFormat.format(projection.getWorstCase()) + PERCENT + "\n"
+                + BEST_CASE + decimalFormat.format(projection.getBestCase()) + PERCENT + "\n";
+        if (projection.isSecured(target)) {
+            output = output.concat(SECURED + "\n");
+        } else if (!projection.isAchievable(target)) {
+            output = output.concat(UNREACHABLE + "\n");
+        } else {
+            output = output.concat(REQUIRED + decimalFormat.format(projection.getRequiredPercentage(target))
+                    + PERCENT + REQUIRED_ON_EACH + "\n");
+            double[] requiredScores = projection.getRequiredWeightedScores(target);
+            List<GradedComponent> gradedComponents = gradeList.getList();
+            for (int i = 0; i < projection.size(); i++) {
+                if (!projection.isScoreKnown(i)) {
+                    output = output.concat((i + 1) + ". " + gradedComponents.get(i).getName() + ": "
+                            + decimalFormat.format(requiredScores[i]) + "/"
+                            + decimalFormat.format(projection.getWeight(i)) + "\n");
+                }
+            }
+        }
+        return output + HORIZONTAL_LINE;
+    }
+
+    private String projectAllModules(ModuleContainer moduleContainer, double target) {
+        if (moduleContainer.getModules().isEmpty()) {
+            return NO_MODULES;
+        }
+        DecimalFormat decimalFormat = new DecimalFormat(TWO_DP);
+        String output = HORIZONTAL_LINE + "\n" + PROJECTION_HEADER + decimalFormat.format(target) + PERCENT + ":\n";
+        Map<String, Module> sortedModules = new TreeMap<>(moduleContainer.getModules());
+        for (Map.Entry<String, Module> entry : sortedModules.entrySet()) {
+            GradeProjection projection = entry.getValue().getGrades().getProjection();
+            String status;
+            if (projection.isSecured(target)) {
+                status = SECURED;
+            } else if (!projection.isAchievable(target)) {
+                status = UNREACHABLE;
+            } else {
+                status = REQUIRED + decimalFormat.format(projection.getRequiredPercentage(target)) + PERCENT
+                        + REQUIRED_ON_REMAINING + decimalFormat.format(projection.getRemainingWeight()) + PERCENT
+                        + ".";
+            }
+            output = output.concat(entry.getKey() + " [" + decimalFormat.format(projection.getWorstCase()) + PERCENT
+                    + " - " + decimalFormat.format(projection.getBestCase()) + PERCENT + "] " + status + "\n");
+        }
+        return output + HORIZONTAL_LINE;
+    }
+}
@@ -30,19 +30,19 @@ public class RemoveCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private String[] tokens;
 
     /**
      * Constructor for initialization of variables to support removal of entities.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public RemoveCommand(String[] pageDataComponents, String content) {
+    public RemoveCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
     }
 
     @Override
@@ -56,7 +56,7 @@ public class RemoveCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = files.getIndex(tokens[1]);
                     File fileRemoved = files.get(index);
                     files.remove(index);
                     return HORIZONTAL_LINE + "\nRemoved file: " + fileRemoved.toString() + "\n"
@@ -79,7 +79,7 @@ public class RemoveCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = Integer.parseInt(tokens[1]) - 1;
                     notepad.removeLine(index);
                     return HORIZONTAL_LINE + "\n" + NOTE_REMOVED + moduleCode + "\n" + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
@@ -98,7 +98,7 @@ public class RemoveCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     GradeList gradeList = module.getGrades();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = gradeList.getIndex(tokens[1]);
                     GradedComponent removedComponent = gradeList.get(index);
                     gradeList.remove(index);
 
@@ -123,7 +123,7 @@ public class RemoveCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = tasks.getIndex(tokens[1]);
                     Task taskRemoved = tasks.get(index);
                     tasks.remove(index);
                     return HORIZONTAL_LINE + "\nRemoved task: " + taskRemoved.toString() + "\n"
@@ -141,8 +141,7 @@ public class RemoveCommand extends Command {
 
         case "module":
             try {
-                String[] contentComponents = content.split(" ", 3);
-                moduleCode = contentComponents[1].toUpperCase();
+                moduleCode = tokens[1].toUpperCase();
                 Module moduleToBeRemoved = moduleContainer.getModule(moduleCode);
                 String toBeRemovedModuleName = moduleToBeRemoved.getModuleName();
                 if (moduleContainer.checkModuleExists(moduleCode)) {
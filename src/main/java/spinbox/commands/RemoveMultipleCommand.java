@@ -4,6 +4,7 @@ import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.Notepad;
 import spinbox.entities.items.File;
+import spinbox.entities.items.Item;
 import spinbox.entities.Module;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.InvalidIndexException;
@@ -38,20 +39,22 @@ public class RemoveMultipleCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private String[] tokens;
+    private String arguments;
     private String outputMessage = "";
 
     /**
      * Constructor for initialization of variables to support removal of entities.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public RemoveMultipleCommand(String[] pageDataComponents, String content) {
+    public RemoveMultipleCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
+        this.arguments = input.getArguments();
     }
 
     /**
@@ -65,12 +68,23 @@ public class RemoveMultipleCommand extends Command {
      */
     private String removeMultipleFile(List<Integer> finalIndexes, FileList files, String outputMessage)
             throws InvalidIndexException, DataReadWriteException {
-        for (int i = 0; i < finalIndexes.size(); i++) {
-            File fileRemoved = files.remove(finalIndexes.get(i));
-            if (i == 0) {
-                outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_FILES + "\n");
+        boolean isApplied = false;
+        files.beginBatch();
+        try {
+            for (int i = 0; i < finalIndexes.size(); i++) {
+                File fileRemoved = files.remove(finalIndexes.get(i));
+                if (i == 0) {
+                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_FILES + "\n");
+                }
+                outputMessage = outputMessage.concat(fileRemoved.toString() + "\n");
+            }
+            isApplied = true;
+        } finally {
+            if (isApplied) {
+                files.commit();
+            } else {
+                files.rollback();
             }
-            outputMessage = outputMessage.concat(fileRemoved.toString() + "\n");
         }
         return outputMessage;
     }
@@ -86,12 +100,23 @@ public class RemoveMultipleCommand extends Command {
      */
     private String removeMultipleTask(List<Integer> finalIndexes, TaskList tasks, String outputMessage)
             throws InvalidIndexException, DataReadWriteException {
-        for (int i = 0; i < finalIndexes.size(); i++) {
-            Task taskRemoved = tasks.remove(finalIndexes.get(i));
-            if (i == 0) {
-                outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_TASKS + "\n");
+        boolean isApplied = false;
+        tasks.beginBatch();
+        try {
+            for (int i = 0; i < finalIndexes.size(); i++) {
+                Task taskRemoved = tasks.remove(finalIndexes.get(i));
+                if (i == 0) {
+                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_TASKS + "\n");
+                }
+                outputMessage = outputMessage.concat(taskRemoved.toString() + "\n");
+            }
+            isApplied = true;
+        } finally {
+            if (isApplied) {
+                tasks.commit();
+            } else {
+                tasks.rollback();
             }
-            outputMessage = outputMessage.concat(taskRemoved.toString() + "\n");
         }
         return outputMessage;
     }
@@ -99,15 +124,15 @@ public class RemoveMultipleCommand extends Command {
     @Override
     public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
             SpinBoxException {
-        int inputSize = content.split(" ").length;
+        int inputSize = tokens.length;
 
         if (inputSize > 2) {
             throw new InputException(INDEX_SEPARATION);
         }
         try {
-            String[] splitIndexes = content.replace(type.concat(" "), "").split(",");
+            String[] splitIndexes = arguments.split(",");
             if ((type.equals("file") || type.equals("note") || type.equals("task")) && (splitIndexes.length == 1)
-                && splitIndexes[0].matches("\\d+")) {
+                && (splitIndexes[0].matches("\\d+") || Item.isIdReference(splitIndexes[0]))) {
                 throw new InputException(REMOVE_SINGLE_TASK);
             } else if ((type.equals("file") || type.equals("note") || type.equals("task"))
                     && (splitIndexes.length == 1)) {
@@ -115,11 +140,6 @@ public class RemoveMultipleCommand extends Command {
             } else if (!type.equals("file") && !type.equals("note") && !type.equals("task")) {
                 throw new InputException(INVALID_REMOVE_FORMAT);
             }
-            List<Integer> finalIndexes = new ArrayList<>();
-            for (String convert : splitIndexes) {
-                finalIndexes.add(Integer.parseInt(convert) - 1);
-            }
-            finalIndexes.sort(Collections.reverseOrder());
             switch (type) {
             case "file":
                 checkIfOnModulePage(moduleCode);
@@ -127,6 +147,8 @@ public class RemoveMultipleCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
+                    List<Integer> finalIndexes = files.getIndexes(splitIndexes);
+                    finalIndexes.sort(Collections.reverseOrder());
                     if (inputSize == 1) {
                         throw new InputException(PROVIDE_INDEX);
                     }
@@ -145,11 +167,28 @@ public class RemoveMultipleCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
+                    List<Integer> finalIndexes = new ArrayList<>();
+                    for (String convert : splitIndexes) {
+                        finalIndexes.add(Integer.parseInt(convert) - 1);
+                    }
+                    finalIndexes.sort(Collections.reverseOrder());
                     if (inputSize == 1) {
                         throw new InputException(PROVIDE_INDEX);
                     }
-                    for (Integer finalIndex : finalIndexes) {
-                        notepad.removeLine(finalIndex);
+                    notepad.checkIndexes(finalIndexes);
+                    boolean isApplied = false;
+                    notepad.beginBatch();
+                    try {
+                        for (Integer finalIndex : finalIndexes) {
+                            notepad.removeLine(finalIndex);
+                        }
+                        isApplied = true;
+                    } finally {
+                        if (isApplied) {
+                            notepad.commit();
+                        } else {
+                            notepad.rollback();
+                        }
                     }
                     return NOTES_REMOVED + moduleCode;
                 } else {
@@ -162,6 +201,8 @@ public class RemoveMultipleCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
+                    List<Integer> finalIndexes = tasks.getIndexes(splitIndexes);
+                    finalIndexes.sort(Collections.reverseOrder());
                     if (inputSize == 1) {
                         throw new InputException(PROVIDE_INDEX);
                     }
@@ -0,0 +1,150 @@
+package spinbox.commands;
+
+import spinbox.Parser;
+import spinbox.Ui;
+import spinbox.containers.ModuleContainer;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a script of commands, one per line, with their changes saved once at the end instead of after every
+ * command. A failing command is reported and skipped, unless the script is atomic, in which case the script
+ * stops and none of its changes are kept, as when the script is stopped by any other error.
+ */
+public class RunCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(RunCommand.class.getName());
+    private static final String LOG_RUN_SCRIPT = "Running script ";
+    private static final String LOG_ROLLED_BACK = "Rolled back script at line ";
+
+    private static final String ATOMIC_FLAG = "--atomic";
+    private static final String MISSING_SCRIPT = "Please input the script to run.\n"
+            + "E.g. 'run / commands.txt' or 'run / commands.txt --atomic'";
+    private static final String UNREADABLE_SCRIPT = "Sorry, this script cannot be read: ";
+    private static final String NESTED_SCRIPT = "Sorry, a script cannot run another script.";
+    private static final String LINE = "Line ";
+    private static final String SCRIPT_RUN = "Ran %d commands from %s and saved their changes.";
+    private static final String FAILED_COMMANDS = "These commands failed and were skipped:";
+    private static final String ROLLED_BACK = "The script was stopped and none of its changes were saved.";
+
+    private String scriptLocation;
+    private boolean isAtomic;
+
+    /**
+     * Constructor for running a script.
+     * @param content The path of the script, optionally followed by --atomic.
+     * @throws InputException if no script is given.
+     */
+    public RunCommand(String content) throws InputException {
+        LOGGER.setLevel(Level.INFO);
+        LOGGER.setUseParentHandlers(true);
+        String location = content.trim();
+        if (location.endsWith(ATOMIC_FLAG)) {
+            isAtomic = true;
+            location = location.substring(0, location.length() - ATOMIC_FLAG.length()).trim();
+        }
+        if (location.isEmpty()) {
+            throw new InputException(MISSING_SCRIPT);
+        }
+        this.scriptLocation = location;
+    }
+
+    /**
+     * Parses and executes every line of the script against the modules, deferring all writes to storage until
+     * the script ends.
+     * @param moduleContainer The container where the modules stored.
+     * @param pageTrace The current pageTrace, which the commands of the script may change.
+     * @param ui The Ui instance.
+     * @param guiMode Boolean to check if in gui mode.
+     * @return A summary of the script, listing the commands that failed.
+     * @throws SpinBoxException if the script cannot be read, or its changes cannot be saved or rolled back.
+     */
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        LOGGER.entering(getClass().getName(), "execute");
+        if (Storage.isDeferringWrites()) {
+            throw new InputException(NESTED_SCRIPT);
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(scriptLocation));
+        } catch (IOException | InvalidPathException e) {
+            throw new InputException(UNREADABLE_SCRIPT + scriptLocation);
+        }
+        LOGGER.info(LOG_RUN_SCRIPT + scriptLocation);
+
+        Parser parser = new Parser(pageTrace);
+        ArrayDeque<String> startingPageTrace = pageTrace.clone();
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+
+        String atomicFailure = null;
+        int lineNumber = 0;
+        boolean isFinished = false;
+        Storage.deferWrites();
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                lineNumber = i + 1;
+                String input = lines.get(i).trim();
+                if (input.isEmpty()) {
+                    continue;
+                }
+                commandCount += 1;
+                try {
+                    Command command = parser.parse(input);
+                    command.execute(moduleContainer, pageTrace, ui, guiMode);
+                    if (command.isExit()) {
+                        break;
+                    }
+                } catch (SpinBoxException e) {
+                    if (isAtomic) {
+                        atomicFailure = LINE + lineNumber + ": " + e.getMessage();
+                        break;
+                    }
+                    failures.add(LINE + lineNumber + ": " + e.getMessage());
+                }
+            }
+            isFinished = atomicFailure == null;
+        } finally {
+            if (isAtomic && !isFinished) {
+                this.rollBack(moduleContainer, pageTrace, startingPageTrace, lineNumber);
+            } else {
+                Storage.commitDeferredWrites();
+            }
+        }
+
+        if (atomicFailure != null) {
+            LOGGER.exiting(getClass().getName(), "execute");
+            return ui.showFormatted(atomicFailure + "\n" + ROLLED_BACK);
+        }
+
+        List<String> output = new ArrayList<>();
+        output.add(String.format(SCRIPT_RUN, commandCount, scriptLocation));
+        if (!failures.isEmpty()) {
+            output.add(FAILED_COMMANDS);
+            output.addAll(failures);
+        }
+        LOGGER.exiting(getClass().getName(), "execute");
+        return ui.showFormatted(output);
+    }
+
+    private void rollBack(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace,
+                          ArrayDeque<String> startingPageTrace, int lineNumber) throws SpinBoxException {
+        LOGGER.warning(LOG_ROLLED_BACK + lineNumber);
+        Storage.discardDeferredWrites();
+        pageTrace.clear();
+        pageTrace.addAll(startingPageTrace);
+        moduleContainer.reloadData();
+    }
+}
@@ -22,17 +22,19 @@ public class ScoreCommand extends Command {
 
     private String moduleCode;
     private String content;
+    private String[] tokens;
 
     /**
      * Constructor for initialization of variables to support scoring of graded components.
-     * @param pageDataComponents page data components to provide context based input completion.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public ScoreCommand(String[] pageDataComponents, String content) {
+    public ScoreCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
+        this.content = input.getContent();
+        this.tokens = input.getTokens();
     }
 
 
@@ -47,7 +49,7 @@ public class ScoreCommand extends Command {
                 GradeList gradeList = module.getGrades();
 
                 String[] scoreComponents = this.content.split(" marks:");
-                int index = Integer.parseInt(content.split(" ")[0]) - 1;
+                int index = gradeList.getIndex(tokens[0]);
                 String[] scores = scoreComponents[1].split("/");
 
                 if (scoreComponents[1].contains("%")) {
@@ -9,6 +9,7 @@ import spinbox.entities.items.tasks.Event;
 import spinbox.entities.items.tasks.Exam;
 import spinbox.entities.items.tasks.Lab;
 import spinbox.entities.items.tasks.Lecture;
+import spinbox.entities.items.tasks.Schedulable;
 import spinbox.entities.items.tasks.Tutorial;
 import spinbox.entities.items.tasks.Task;
 import spinbox.entities.items.tasks.TaskType;
@@ -53,17 +54,18 @@ public class SetDateCommand extends Command {
     private String type;
     private String moduleCode;
     private String content;
+    private String[] tokens;
 
     /**
      * Constructor for initialization of variables to support the set date command.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public SetDateCommand(String[] pageDataComponents, String content) throws InputException {
+    public SetDateCommand(CommandInput input) throws InputException {
         LOGGER.setLevel(Level.INFO);
         LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
 
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
             LOGGER.fine(LOG_MODULE_CODE + moduleCode);
@@ -74,8 +76,9 @@ public class SetDateCommand extends Command {
 
         assert !moduleCode.isEmpty();
 
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.content = input.getContent();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
 
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
@@ -101,8 +104,8 @@ public class SetDateCommand extends Command {
                     DateTime replaceStart;
                     DateTime replaceEnd;
 
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
                     TaskList tasks = module.getTasks();
+                    int index = tasks.getIndex(tokens[1]);
                     Task taskSelected = tasks.get(index);
 
                     String fullTaskDescription = taskSelected.toString();
@@ -153,12 +156,21 @@ public class SetDateCommand extends Command {
                         break;
                     }
 
+                    String clashes = "";
+                    if (replaceEnd != null) {
+                        ((Schedulable) taskChanged).setRecurrence(((Schedulable) taskSelected).getRecurrence());
+                        clashes = this.checkForClashes(moduleContainer, tasks, (Schedulable) taskChanged,
+                                taskSelected);
+                    }
+
+                    taskChanged.setId(taskSelected.getId());
                     tasks.remove(index);
                     taskChanged = tasks.add(taskChanged);
                     LOGGER.fine(LOG_TASK_CHANGED);
 
                     return HORIZONTAL_LINE + "\n" + TASK_SET + "Task " + (index + 1) + CHANGE_FROM
-                            + taskSelected.toString() + TO + taskChanged.toString() + "\n" + HORIZONTAL_LINE;
+                            + taskSelected.toString() + TO + taskChanged.toString() + "\n" + clashes
+                            + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
                     LOGGER.severe(LOG_INVALID_INDEX);
                     throw new InputException(INVALID_INDEX);
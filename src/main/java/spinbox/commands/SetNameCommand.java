@@ -12,6 +12,7 @@ import spinbox.entities.items.tasks.Event;
 import spinbox.entities.items.tasks.Exam;
 import spinbox.entities.items.tasks.Lab;
 import spinbox.entities.items.tasks.Lecture;
+import spinbox.entities.items.tasks.Schedulable;
 import spinbox.entities.items.tasks.Tutorial;
 import spinbox.entities.items.tasks.Task;
 import spinbox.entities.items.tasks.Todo;
@@ -38,18 +39,20 @@ public class SetNameCommand extends Command {
 
     private String moduleCode;
     private String content;
+    private String[] tokens;
 
     /**
      * Constructor for initialization of variables to support the set name command.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public SetNameCommand(String[] pageDataComponents, String content) {
+    public SetNameCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.content = input.getContent();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
     }
 
     @Override
@@ -74,8 +77,7 @@ public class SetNameCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    String[] contentComponents = content.split(" ");
-                    int index = Integer.parseInt(contentComponents[1]) - 1;
+                    int index = files.getIndex(tokens[1]);
                     File fileSelected = files.get(index);
                     replaceName = content.split("to: ")[1].trim();
                     if (fileSelected.getDone()) {
@@ -83,8 +85,10 @@ public class SetNameCommand extends Command {
                     } else {
                         doneStatus = 0;
                     }
+                    fileChanged = new File(doneStatus, replaceName);
+                    fileChanged.setId(fileSelected.getId());
                     files.remove(index);
-                    fileChanged = files.add(new File(doneStatus, replaceName));
+                    fileChanged = files.add(fileChanged);
                     return HORIZONTAL_LINE + "\n" + FILE_SET + "File " + (index + 1) + CHANGE_FROM
                             + fileSelected.toString() + TO + fileChanged.toString() + "\n" + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
@@ -103,7 +107,7 @@ public class SetNameCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = Integer.parseInt(tokens[1]) - 1;
                     replaceName = content.split("to: ")[1].trim();
                     noteSelected = notepad.getLine(index);
                     notepad.removeLine(index);
@@ -126,7 +130,7 @@ public class SetNameCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = tasks.getIndex(tokens[1]);
                     Task taskSelected = tasks.get(index);
                     String taskDescription = taskSelected.toString();
                     String taskType = taskSelected.getTaskType().name();
@@ -149,30 +153,35 @@ public class SetNameCommand extends Command {
                         start = null;
                         end = null;
                     }
-                    tasks.remove(index);
                     switch (taskType) {
                     case "TODO":
-                        taskChanged = tasks.add(new Todo(doneStatus, replaceName));
+                        taskChanged = new Todo(doneStatus, replaceName);
                         break;
                     case "DEADLINE":
-                        taskChanged = tasks.add(new Deadline(doneStatus, replaceName, start));
+                        taskChanged = new Deadline(doneStatus, replaceName, start);
                         break;
                     case "EVENT":
-                        taskChanged = tasks.add(new Event(doneStatus, replaceName, start, end));
+                        taskChanged = new Event(doneStatus, replaceName, start, end);
                         break;
                     case "EXAM":
-                        taskChanged = tasks.add(new Exam(doneStatus, replaceName, start, end));
+                        taskChanged = new Exam(doneStatus, replaceName, start, end);
                         break;
                     case "LAB":
-                        taskChanged = tasks.add(new Lab(doneStatus, replaceName, start, end));
+                        taskChanged = new Lab(doneStatus, replaceName, start, end);
                         break;
                     case "LECTURE":
-                        taskChanged = tasks.add(new Lecture(doneStatus, replaceName, start, end));
+                        taskChanged = new Lecture(doneStatus, replaceName, start, end);
                         break;
                     default:
-                        taskChanged = tasks.add(new Tutorial(doneStatus, replaceName, start, end));
+                        taskChanged = new Tutorial(doneStatus, replaceName, start, end);
                         break;
                     }
+                    if (end != null) {
+                        ((Schedulable) taskChanged).setRecurrence(((Schedulable) taskSelected).getRecurrence());
+                    }
+                    taskChanged.setId(taskSelected.getId());
+                    tasks.remove(index);
+                    taskChanged = tasks.add(taskChanged);
                     return HORIZONTAL_LINE + "\n" + TASK_SET + "Task " + (index + 1) + CHANGE_FROM
                             + taskSelected.toString() + TO + taskChanged.toString() + "\n" + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
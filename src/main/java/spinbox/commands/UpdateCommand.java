@@ -28,19 +28,19 @@ public class UpdateCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private String[] tokens;
 
     /**
      * Constructor for initialization of variables to support marking of entities.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public UpdateCommand(String[] pageDataComponents, String content) {
+    public UpdateCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
     }
 
     @Override
@@ -55,12 +55,11 @@ public class UpdateCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    String[] contentComponents = content.split(" ");
-                    int index = Integer.parseInt(contentComponents[1]) - 1;
+                    int index = files.getIndex(tokens[1]);
                     File fileMarked = files.get(index);
-                    if (contentComponents[2].toLowerCase().equals("done")) {
+                    if (tokens[2].toLowerCase().equals("done")) {
                         files.update(index, true);
-                    } else if (contentComponents[2].toLowerCase().equals("notdone")) {
+                    } else if (tokens[2].toLowerCase().equals("notdone")) {
                         files.update(index, false);
                     } else {
                         throw new InputException(INVALID_VALUE);
@@ -83,12 +82,11 @@ public class UpdateCommand extends Command {
                     Module module = modules.get(moduleCode);
                     GradeList gradeList = module.getGrades();
 
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = gradeList.getIndex(tokens[1]);
                     GradedComponent gradeMarked = gradeList.get(index);
-                    String[] contentComponents = content.split(" ");
-                    if (contentComponents[2].toLowerCase().equals("done")) {
+                    if (tokens[2].toLowerCase().equals("done")) {
                         gradeList.update(index, true);
-                    } else if (contentComponents[2].toLowerCase().equals("notdone")) {
+                    } else if (tokens[2].toLowerCase().equals("notdone")) {
                         gradeList.update(index, false);
                     } else {
                         throw new InputException(INVALID_VALUE);
@@ -110,12 +108,11 @@ public class UpdateCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = tasks.getIndex(tokens[1]);
                     Task taskMarked = tasks.get(index);
-                    String[] contentComponents = content.split(" ");
-                    if (contentComponents[2].toLowerCase().equals("done")) {
+                    if (tokens[2].toLowerCase().equals("done")) {
                         tasks.update(index, true);
-                    } else if (contentComponents[2].toLowerCase().equals("notdone")) {
+                    } else if (tokens[2].toLowerCase().equals("notdone")) {
                         tasks.update(index, false);
                     } else {
                         throw new InputException(INVALID_VALUE);
@@ -3,8 +3,10 @@ package spinbox.commands;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.entities.items.File;
+import spinbox.entities.items.Item;
 import spinbox.entities.Module;
 import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.InvalidIndexException;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.exceptions.InputException;
 import spinbox.entities.items.tasks.Task;
@@ -12,7 +14,6 @@ import spinbox.Ui;
 import spinbox.containers.lists.TaskList;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -36,47 +37,52 @@ public class UpdateMultipleCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private String[] tokens;
     private String outputMessage = "";
 
     /**
      * Constructor for initialization of variables to support update of multiple entities.
-     * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param input The processed user input, with its content already split into tokens.
      */
-    public UpdateMultipleCommand(String[] pageDataComponents, String content) {
+    public UpdateMultipleCommand(CommandInput input) {
+        String[] pageDataComponents = input.getPageDataComponents();
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.type = input.getType();
+        this.tokens = input.getTokens();
     }
 
     /**
      * Method to update multiple files with the new done status.
      * @param finalIndexes Indexes of the files to be updated.
-     * @param updateValue done status of the value to be updated to.
+     * @param updateValue Done status of the files to be updated to, either done or notdone.
      * @param files The list of files in the storage.
      * @param outputMessage The message to be output to the screen.
      * @return outputMessage to be printed to the screen.
-     * @throws InputException If done status is not either done or notdone.
+     * @throws InvalidIndexException If an invalid index is accessed.
      * @throws DataReadWriteException If there is an error reading/writing to the file.
      */
     private String updateMultipleFile(List<Integer> finalIndexes, String updateValue, FileList files, String
-            outputMessage) throws InputException, DataReadWriteException {
-        for (int i = 0; i < finalIndexes.size(); i++) {
-            File fileUpdated = files.get(finalIndexes.get(i));
-            if (updateValue.equals("done")) {
-                files.update(finalIndexes.get(i), true);
-            } else if (updateValue.equals("notdone")) {
-                files.update(finalIndexes.get(i), false);
-            } else {
-                throw new InputException(INVALID_DONE_VALUE);
+            outputMessage) throws InvalidIndexException, DataReadWriteException {
+        boolean isApplied = false;
+        files.beginBatch();
+        try {
+            for (int i = 0; i < finalIndexes.size(); i++) {
+                File fileUpdated = files.get(finalIndexes.get(i));
+                files.update(finalIndexes.get(i), updateValue.equals("done"));
+                if (i == 0) {
+                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_FILES + "\n");
+                }
+                outputMessage = outputMessage.concat(fileUpdated.toString() + "\n");
             }
-            if (i == 0) {
-                outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_FILES + "\n");
+            isApplied = true;
+        } finally {
+            if (isApplied) {
+                files.commit();
+            } else {
+                files.rollback();
             }
-            outputMessage = outputMessage.concat(fileUpdated.toString() + "\n");
         }
         return outputMessage;
     }
@@ -84,35 +90,44 @@ public class UpdateMultipleCommand extends Command {
     /**
      * Method to update multiple tasks with the new done status.
      * @param finalIndexes Indexes of the tasks to be updated.
-     * @param updateValue Done status of the tasks to be updated to.
+     * @param updateValue Done status of the tasks to be updated to, either done or notdone.
      * @param tasks The list of tasks in the storage.
      * @param outputMessage The message to be output to the screen.
      * @return outputMessage to be printed to the screen.
-     * @throws InputException If the done status is not either done or notdone.
+     * @throws InvalidIndexException If an invalid index is accessed.
      * @throws DataReadWriteException If there is an error reading/writing to the file.
      */
     private String updateMultipleTask(List<Integer> finalIndexes, String updateValue, TaskList tasks, String
-            outputMessage) throws InputException, DataReadWriteException {
-        if (updateValue.equals("notdone")) {
-            for (int i = finalIndexes.size() - 1; i >= 0; i--) {
-                tasks.update(finalIndexes.get(i), false);
-                if (i == finalIndexes.size() - 1) {
-                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
+            outputMessage) throws InvalidIndexException, DataReadWriteException {
+        boolean isApplied = false;
+        tasks.beginBatch();
+        try {
+            if (updateValue.equals("notdone")) {
+                for (int i = finalIndexes.size() - 1; i >= 0; i--) {
+                    tasks.update(finalIndexes.get(i), false);
+                    if (i == finalIndexes.size() - 1) {
+                        outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
+                    }
+                    Task taskUpdated = tasks.get(finalIndexes.get(i));
+                    outputMessage = outputMessage.concat(taskUpdated.toString() + "\n");
                 }
-                Task taskUpdated = tasks.get(finalIndexes.get(i));
-                outputMessage = outputMessage.concat(taskUpdated.toString() + "\n");
-            }
-        } else if (updateValue.equals("done")) {
-            for (int i = 0; i < finalIndexes.size(); i++) {
-                tasks.update(finalIndexes.get(i), true);
-                if (i == 0) {
-                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
+            } else if (updateValue.equals("done")) {
+                for (int i = 0; i < finalIndexes.size(); i++) {
+                    tasks.update(finalIndexes.get(i), true);
+                    if (i == 0) {
+                        outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
+                    }
+                    Task taskUpdated = tasks.get(finalIndexes.get(i));
+                    outputMessage = outputMessage.concat(taskUpdated.toString() + "\n");
                 }
-                Task taskUpdated = tasks.get(finalIndexes.get(i));
-                outputMessage = outputMessage.concat(taskUpdated.toString() + "\n");
             }
-        } else {
-            throw new InputException(INVALID_DONE_VALUE);
+            isApplied = true;
+        } finally {
+            if (isApplied) {
+                tasks.commit();
+            } else {
+                tasks.rollback();
+            }
         }
         return outputMessage;
     }
@@ -120,15 +135,15 @@ public class UpdateMultipleCommand extends Command {
     @Override
     public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
             SpinBoxException {
-        int inputSize = content.split(" ").length;
+        int inputSize = tokens.length;
 
         if (inputSize != 3) {
             throw new InputException(INVALID_UPDATE_FORMAT);
         }
         try {
-            String[] splitIndexes = content.split(" ")[1].split(",");
+            String[] splitIndexes = tokens[1].split(",");
             if ((type.equals("file") || type.equals("task")) && (splitIndexes.length == 1)
-                    && splitIndexes[0].matches("\\d+")) {
+                    && (splitIndexes[0].matches("\\d+") || Item.isIdReference(splitIndexes[0]))) {
                 throw new InputException(UPDATE_SINGLE_TASK);
             } else if ((type.equals("file") || type.equals("task"))
                     && (splitIndexes.length == 1)) {
@@ -136,12 +151,10 @@ public class UpdateMultipleCommand extends Command {
             } else if (!type.equals("file") && !type.equals("task")) {
                 throw new InputException(INCORRECT_TAB);
             }
-            List<Integer> finalIndexes = new ArrayList<>();
-            for (String convert : splitIndexes) {
-                finalIndexes.add(Integer.parseInt(convert) - 1);
+            String updateValue = tokens[2].toLowerCase();
+            if (!updateValue.equals("done") && !updateValue.equals("notdone")) {
+                throw new InputException(INVALID_DONE_VALUE);
             }
-            finalIndexes.sort(Collections.reverseOrder());
-            String updateValue = content.split(" ")[2].toLowerCase();
             switch (type) {
             case "file":
                 checkIfOnModulePage(moduleCode);
@@ -149,6 +162,8 @@ public class UpdateMultipleCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
+                    List<Integer> finalIndexes = files.getIndexes(splitIndexes);
+                    finalIndexes.sort(Collections.reverseOrder());
                     outputMessage = updateMultipleFile(finalIndexes, updateValue, files, outputMessage).concat(
                                     HORIZONTAL_LINE);
                     return outputMessage;
@@ -162,6 +177,8 @@ public class UpdateMultipleCommand extends Command {
                     HashMap<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
+                    List<Integer> finalIndexes = tasks.getIndexes(splitIndexes);
+                    finalIndexes.sort(Collections.reverseOrder());
                     outputMessage = updateMultipleTask(finalIndexes, updateValue, tasks, outputMessage).concat(
                                     HORIZONTAL_LINE);
                     return outputMessage;
@@ -1,8 +1,12 @@
 package spinbox.commands;
 
+import javafx.util.Pair;
 import spinbox.DateTime;
 import spinbox.containers.ModuleContainer;
 import spinbox.entities.Module;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.TaskType;
 import spinbox.Ui;
 import spinbox.exceptions.DateFormatException;
 import spinbox.exceptions.InputException;
@@ -10,6 +14,7 @@ import spinbox.exceptions.SpinBoxException;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.logging.Level;
@@ -50,23 +55,37 @@ public class ViewCommand extends Command {
             + " MM/yyyy.\n"
             + "E.g. 'view / calendar 12/2019'";
     private static final String MONTH_YEAR_REGEX = "\\d{2}/\\d{4}";
+    private static final String SUMMARY = "summary";
+    private static final String CLASHES_HEADER = "Here are the clashing tasks across your modules:";
+    private static final String NO_CLASHES = "There are no clashing tasks across your modules.";
+    private static final String CLASHES_WITH = "\n   clashes with ";
+    private static final String EXAMS_HEADER = "Here are your upcoming exams across your modules:";
+    private static final String NO_EXAMS = "You have no upcoming exams across your modules.";
+    private static final String ARCHIVE = "archive";
 
     private String page;
     private String moduleCode;
     private String tab;
+    private boolean isSummary;
+    private boolean isClashReport;
+    private boolean isExamTimeline;
+    private boolean isArchive;
 
     /**
      * Constructs by splitting the input and pageTrace and storing it in private variables.
-     * @param pageDataComponents The page trace from parser.
-     * @param content The content of input.
+     * @param input The processed user input, with its content already split into tokens.
      * @throws InputException if invalid view command.
      */
-    public ViewCommand(String[] pageDataComponents, String content) throws InputException {
+    public ViewCommand(CommandInput input) throws InputException {
         LOGGER.setLevel(Level.INFO);
         LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
 
-        String[] contentComponents = content.toLowerCase().split(" ");
+        String[] pageDataComponents = input.getPageDataComponents();
+        String[] contentComponents = new String[input.getTokens().length];
+        for (int i = 0; i < contentComponents.length; i++) {
+            contentComponents[i] = input.getTokens()[i].toLowerCase();
+        }
 
         if (contentComponents.length == NO_PAGE_INPUT) {
             LOGGER.severe(MISSING_PAGE_INPUT);
@@ -82,6 +101,21 @@ public class ViewCommand extends Command {
             case "modules":
                 page = "modules";
                 break;
+            case "clashes":
+                isClashReport = true;
+                break;
+            case "exams":
+                isExamTimeline = true;
+                break;
+            case ARCHIVE:
+                try {
+                    moduleCode = pageDataComponents[1];
+                } catch (ArrayIndexOutOfBoundsException e) {
+                    LOGGER.severe(SPECIFY_PAGE);
+                    throw new InputException(SPECIFY_PAGE);
+                }
+                isArchive = true;
+                break;
             case "tasks":
             case "files":
             case "grades":
@@ -110,6 +144,19 @@ public class ViewCommand extends Command {
                 page = "modules";
                 moduleCode = contentComponents[1];
                 tab = "tasks";
+            } else if (contentComponents[1].equals(ARCHIVE)) {
+                moduleCode = contentComponents[0];
+                isArchive = true;
+            } else if (contentComponents[0].equals("grades") && contentComponents[1].equals(SUMMARY)) {
+                try {
+                    moduleCode = pageDataComponents[1];
+                } catch (ArrayIndexOutOfBoundsException e) {
+                    LOGGER.severe(SPECIFY_PAGE);
+                    throw new InputException(SPECIFY_PAGE);
+                }
+                page = "modules";
+                tab = contentComponents[0];
+                isSummary = true;
             } else if (contentComponents[0].equals("calendar")) {
                 page = "calendar";
                 tab = contentComponents[1];
@@ -122,10 +169,21 @@ public class ViewCommand extends Command {
                 throw new InputException(INCORRECT_VIEW_FORMAT);
             }
         } else if (contentComponents.length == THREE_PAGE_INPUTS) {
-            if (contentComponents[0].equals("modules")) {
+            if (contentComponents[0].equals("modules") && contentComponents[2].equals(ARCHIVE)) {
+                moduleCode = contentComponents[1];
+                isArchive = true;
+            } else if (contentComponents[0].equals("modules")) {
                 page = "modules";
                 moduleCode = contentComponents[1];
                 tab = contentComponents[2];
+            } else if (contentComponents[1].equals("grades") && contentComponents[2].equals(SUMMARY)) {
+                page = "modules";
+                moduleCode = contentComponents[0];
+                tab = contentComponents[1];
+                isSummary = true;
+            } else {
+                LOGGER.severe(LOG_INVALID_VIEW_COMMAND);
+                throw new InputException(INCORRECT_VIEW_FORMAT);
             }
         } else {
             LOGGER.severe(LOG_INVALID_VIEW_COMMAND);
@@ -143,6 +201,21 @@ public class ViewCommand extends Command {
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String getModuleScope() {
+        return isClashReport || isExamTimeline ? null : moduleCode;
+    }
+
+    @Override
+    public String getListScope() {
+        return isArchive ? "tasks" : tab;
+    }
+
     /**
      * Replace pageTrace with the new pageTrace.
      * @param moduleContainer The container where the modules stored.
@@ -157,6 +230,21 @@ public class ViewCommand extends Command {
             throws SpinBoxException {
         LOGGER.entering(getClass().getName(), "execute");
 
+        if (isClashReport) {
+            LOGGER.exiting(getClass().getName(), "execute");
+            return ui.showFormatted(this.viewClashes(moduleContainer));
+        } else if (isExamTimeline) {
+            LOGGER.exiting(getClass().getName(), "execute");
+            return ui.showFormatted(this.viewExams(moduleContainer));
+        } else if (isArchive) {
+            if (!moduleContainer.checkModuleExists(moduleCode)) {
+                LOGGER.severe(LOG_NON_EXISTENT_MODULE);
+                throw new InputException(NON_EXISTENT_MODULE + "\n" + this.listModules(moduleContainer));
+            }
+            LOGGER.exiting(getClass().getName(), "execute");
+            return ui.showFormatted(moduleContainer.getModule(moduleCode).getTasks().viewArchive());
+        }
+
         ArrayDeque<String> tempPageTrace = pageTrace.clone();
         String oldTrace = "";
         while (tempPageTrace.size() > 0) {
@@ -179,12 +267,8 @@ public class ViewCommand extends Command {
                 newPageTrace.addFirst(moduleCode);
                 LOGGER.fine(LOG_ADDED_MODULE_CODE);
             } else {
-                String currentModules = "";
-                for (HashMap.Entry<String, Module> entry : moduleContainer.getModules().entrySet()) {
-                    currentModules = currentModules.concat(entry.getKey() + "\n");
-                }
                 LOGGER.severe(LOG_NON_EXISTENT_MODULE);
-                throw new InputException(NON_EXISTENT_MODULE + "\n" + currentModules);
+                throw new InputException(NON_EXISTENT_MODULE + "\n" + this.listModules(moduleContainer));
             }
         }
 
@@ -204,7 +288,7 @@ public class ViewCommand extends Command {
                 break;
             case "grades":
                 newPageTrace.addFirst(tab);
-                outputList = module.getGrades().viewList();
+                outputList = isSummary ? module.getGrades().viewSummary() : module.getGrades().viewList();
                 break;
             case "notes":
                 newPageTrace.addFirst(tab);
@@ -253,4 +337,49 @@ public class ViewCommand extends Command {
         LOGGER.exiting(getClass().getName(), "execute");
         return ui.showFormatted(outputList);
     }
-}
\ No newline at end of file
+
+    private String listModules(ModuleContainer moduleContainer) {
+        String currentModules = "";
+        for (HashMap.Entry<String, Module> entry : moduleContainer.getModules().entrySet()) {
+            currentModules = currentModules.concat(entry.getKey() + "\n");
+        }
+        return currentModules;
+    }
+
+    private List<String> viewClashes(ModuleContainer moduleContainer) {
+        List<Pair<Pair<String, Task>, Pair<String, Task>>> clashes = moduleContainer.getTaskIndex().getClashes();
+        List<String> output = new ArrayList<>();
+        if (clashes.isEmpty()) {
+            output.add(NO_CLASHES);
+            return output;
+        }
+        output.add(CLASHES_HEADER);
+        for (int i = 0; i < clashes.size(); i++) {
+            Pair<String, Task> earlierTask = clashes.get(i).getKey();
+            Pair<String, Task> laterTask = clashes.get(i).getValue();
+            output.add((i + 1) + ". " + earlierTask.getKey() + ": " + earlierTask.getValue().toString()
+                    + CLASHES_WITH + laterTask.getKey() + ": " + laterTask.getValue().toString());
+        }
+        return output;
+    }
+
+    private List<String> viewExams(ModuleContainer moduleContainer) {
+        DateTime now = new DateTime(new Date());
+        List<Pair<String, Task>> exams = new ArrayList<>();
+        for (Pair<String, Task> exam : moduleContainer.getTaskIndex().getTasks(TaskType.EXAM, false)) {
+            if (!((Schedulable) exam.getValue()).getStartDate().before(now)) {
+                exams.add(exam);
+            }
+        }
+        List<String> output = new ArrayList<>();
+        if (exams.isEmpty()) {
+            output.add(NO_EXAMS);
+            return output;
+        }
+        output.add(EXAMS_HEADER);
+        for (int i = 0; i < exams.size(); i++) {
+            output.add((i + 1) + ". " + exams.get(i).getKey() + ": " + exams.get(i).getValue().toString());
+        }
+        return output;
+    }
+}
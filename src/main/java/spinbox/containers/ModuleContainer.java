@@ -7,7 +7,6 @@ import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.FileCreationException;
 import spinbox.datapersistors.storage.StorageContainer;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -16,12 +15,15 @@ import java.util.Map;
 public class ModuleContainer implements StorageContainer {
     private static final String DIRECTORY_NAME = "SpinBoxData/";
     private static final String MODULES_FILE_NAME = "modules.txt";
+    private static final String MODULE_DELIMITER = " | ";
     private static final String FILES_DIRECTORY = "/files.txt";
     private static final String GRADES_DIRECTORY = "/grades.txt";
     private static final String TASKS_DIRECTORY = "/tasks.txt";
     private static final String NOTES_DIRECTORY = "/notes.txt";
+    private static final String ARCHIVE_DIRECTORY = "/archive.txt";
 
     private HashMap<String, Module> modules;
+    private TaskIndex taskIndex;
     private Storage localStorage;
 
     /**
@@ -31,9 +33,25 @@ public class ModuleContainer implements StorageContainer {
      * @throws CorruptedDataException Text files have been improperly modified (unexpected formatting).
      */
     public ModuleContainer() throws FileCreationException, DataReadWriteException, CorruptedDataException {
+        this(true);
+    }
+
+    /**
+     * Constructor for a module container that may be left empty, for its modules to be loaded one at a time
+     * with loadStoredData, loadModule and addLoadedModule.
+     * @param loadsData Whether the stored modules are loaded right away.
+     * @throws FileCreationException Creation of file hierarchy failed, perhaps due to permissions.
+     * @throws DataReadWriteException I/O error during file read/writes.
+     * @throws CorruptedDataException Text files have been improperly modified (unexpected formatting).
+     */
+    public ModuleContainer(boolean loadsData) throws FileCreationException, DataReadWriteException,
+            CorruptedDataException {
         modules = new HashMap<>();
+        taskIndex = new TaskIndex();
         localStorage = new Storage(DIRECTORY_NAME + MODULES_FILE_NAME);
-        this.loadData();
+        if (loadsData) {
+            this.loadData();
+        }
     }
 
     /**
@@ -45,6 +63,14 @@ public class ModuleContainer implements StorageContainer {
         return modules;
     }
 
+    /**
+     * Returns the index of the tasks of all modules contained within this moduleContainer instance.
+     * @return TaskIndex that is kept current as tasks are added, removed and updated.
+     */
+    public TaskIndex getTaskIndex() {
+        return taskIndex;
+    }
+
     /**
      * Saves data using the localStorage instance to the relevant .txt file.
      * @throws DataReadWriteException I/O error.
@@ -65,7 +91,11 @@ public class ModuleContainer implements StorageContainer {
      * @throws DataReadWriteException I/O Error.
      */
     public Module addModule(Module module) throws DataReadWriteException {
-        this.getModules().put(module.getModuleCode(), module);
+        Module replacedModule = this.getModules().put(module.getModuleCode(), module);
+        if (replacedModule != null) {
+            taskIndex.untrack(replacedModule.getTasks());
+        }
+        taskIndex.track(module.getTasks());
         this.saveData();
         return module;
     }
@@ -77,17 +107,16 @@ public class ModuleContainer implements StorageContainer {
      * @throws DataReadWriteException I/O Error.
      */
     public void removeModule(String moduleCode, Module module) throws DataReadWriteException {
-        this.getModules().remove(module.getModuleCode());
-        File file1 = new File(DIRECTORY_NAME + moduleCode + FILES_DIRECTORY);
-        file1.delete();
-        File file2 = new File(DIRECTORY_NAME + moduleCode + GRADES_DIRECTORY);
-        file2.delete();
-        File file3 = new File(DIRECTORY_NAME + moduleCode + NOTES_DIRECTORY);
-        file3.delete();
-        File file4 = new File(DIRECTORY_NAME + moduleCode + TASKS_DIRECTORY);
-        file4.delete();
-        File file5 = new File(DIRECTORY_NAME + moduleCode);
-        file5.delete();
+        Module removedModule = this.getModules().remove(module.getModuleCode());
+        if (removedModule != null) {
+            taskIndex.untrack(removedModule.getTasks());
+        }
+        Storage.delete(DIRECTORY_NAME + moduleCode + FILES_DIRECTORY);
+        Storage.delete(DIRECTORY_NAME + moduleCode + GRADES_DIRECTORY);
+        Storage.delete(DIRECTORY_NAME + moduleCode + NOTES_DIRECTORY);
+        Storage.delete(DIRECTORY_NAME + moduleCode + TASKS_DIRECTORY);
+        Storage.delete(DIRECTORY_NAME + moduleCode + ARCHIVE_DIRECTORY);
+        Storage.delete(DIRECTORY_NAME + moduleCode);
         this.saveData();
     }
 
@@ -120,11 +149,76 @@ public class ModuleContainer implements StorageContainer {
      */
     @Override
     public void loadData() throws DataReadWriteException, CorruptedDataException {
-        List<String> savedData = localStorage.loadData();
-        for (String datum : savedData) {
-            Module module = new Module();
-            module.fromStoredString(datum);
-            this.modules.put(module.getModuleCode(), module);
+        for (String datum : this.loadStoredData()) {
+            this.addLoadedModule(loadModule(datum));
+        }
+    }
+
+    /**
+     * Loads only the stored module with the given code, or every module if none has that code. A container
+     * loaded this way must not be saved, as saving would drop the modules that were not loaded.
+     * @param moduleCode The code of the module to load.
+     * @param tab The tab of the only list of the module to load, or null to load all of its lists.
+     * @throws DataReadWriteException I/O error.
+     * @throws CorruptedDataException polluted data within txt files.
+     */
+    public void loadData(String moduleCode, String tab) throws DataReadWriteException, CorruptedDataException {
+        List<String> storedData = this.loadStoredData();
+        for (String datum : storedData) {
+            if (datum.startsWith(moduleCode + MODULE_DELIMITER)) {
+                Module module = new Module();
+                module.fromStoredString(datum, tab);
+                this.addLoadedModule(module);
+                return;
+            }
+        }
+        for (String datum : storedData) {
+            this.addLoadedModule(loadModule(datum));
         }
     }
+
+    /**
+     * Reads the stored form of every module, without loading their contents. Does not change the container, so
+     * it can be called from any thread.
+     * @return List of the stored modules.
+     * @throws DataReadWriteException I/O error.
+     */
+    public List<String> loadStoredData() throws DataReadWriteException {
+        return localStorage.loadData();
+    }
+
+    /**
+     * Loads a module and its contents from its stored form. Does not change the container, so it can be called
+     * from any thread.
+     * @param datum The stored form of the module.
+     * @return The loaded module.
+     * @throws CorruptedDataException polluted data within txt files.
+     */
+    public static Module loadModule(String datum) throws CorruptedDataException {
+        Module module = new Module();
+        module.fromStoredString(datum);
+        return module;
+    }
+
+    /**
+     * Drops every module and loads them again from storage, discarding the changes that were not saved.
+     * @throws DataReadWriteException I/O error.
+     * @throws CorruptedDataException polluted data within txt files.
+     */
+    public void reloadData() throws DataReadWriteException, CorruptedDataException {
+        for (Module module : modules.values()) {
+            taskIndex.untrack(module.getTasks());
+        }
+        modules.clear();
+        this.loadData();
+    }
+
+    /**
+     * Adds a module that was loaded from storage, without saving it again.
+     * @param module The loaded module.
+     */
+    public void addLoadedModule(Module module) {
+        this.modules.put(module.getModuleCode(), module);
+        taskIndex.track(module.getTasks());
+    }
 }
@@ -7,6 +7,7 @@ import spinbox.exceptions.InvalidIndexException;
 import spinbox.datapersistors.storage.StorageContainer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 public class Notepad implements StorageContainer {
@@ -17,6 +18,9 @@ public class Notepad implements StorageContainer {
 
     private Storage localStorage;
     private List<String> notes;
+    private int batchDepth;
+    private List<String> batchSnapshot;
+    private boolean hasPendingSave;
 
     /**
      * Constructor for a new notepad instance.
@@ -35,7 +39,7 @@ public class Notepad implements StorageContainer {
      */
     public void addLine(String line) throws DataReadWriteException {
         notes.add(line);
-        this.saveData();
+        this.saveDataUnlessBatching();
     }
 
     /**
@@ -65,7 +69,7 @@ public class Notepad implements StorageContainer {
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidIndexException();
         }
-        this.saveData();
+        this.saveDataUnlessBatching();
     }
 
     /**
@@ -77,12 +81,80 @@ public class Notepad implements StorageContainer {
     public void removeLine(int index) throws DataReadWriteException, InvalidIndexException {
         try {
             notes.remove(index);
-            saveData();
+            this.saveDataUnlessBatching();
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidIndexException();
         }
     }
 
+    /**
+     * Checks that every index refers to a different line of the notepad, before any line is changed.
+     * @param indexes The 0-based indexes of the lines.
+     * @throws InvalidIndexException An index is out of range or repeated.
+     */
+    public void checkIndexes(List<Integer> indexes) throws InvalidIndexException {
+        if (new HashSet<>(indexes).size() < indexes.size()) {
+            throw new InvalidIndexException();
+        }
+        for (int index : indexes) {
+            if (index < 0 || index >= notes.size()) {
+                throw new InvalidIndexException();
+            }
+        }
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #commit()} is called, changes are only applied in memory
+     * and the notepad is saved once at the end instead of once per change. Batches may be nested, in which
+     * case only the commit of the outermost batch saves.
+     */
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            batchSnapshot = new ArrayList<>(notes);
+        }
+        batchDepth += 1;
+    }
+
+    /**
+     * Ends the current batch. If it is the outermost batch, saves the notepad once if it was changed during
+     * the batch.
+     * @throws DataReadWriteException I/O error.
+     */
+    public void commit() throws DataReadWriteException {
+        if (batchDepth > 1) {
+            batchDepth -= 1;
+            return;
+        }
+        batchDepth = 0;
+        batchSnapshot = null;
+        if (hasPendingSave) {
+            hasPendingSave = false;
+            this.saveData();
+        }
+    }
+
+    /**
+     * Ends every batch in progress without saving, and puts back the lines the notepad had when the outermost
+     * batch began.
+     */
+    public void rollback() {
+        if (batchDepth > 0) {
+            notes.clear();
+            notes.addAll(batchSnapshot);
+        }
+        batchDepth = 0;
+        batchSnapshot = null;
+        hasPendingSave = false;
+    }
+
+    private void saveDataUnlessBatching() throws DataReadWriteException {
+        if (batchDepth > 0) {
+            hasPendingSave = true;
+            return;
+        }
+        this.saveData();
+    }
+
     /**
      * Creates a list of notes with a header for CLI output.
      * @return notes with a header as element zero.
@@ -0,0 +1,354 @@
+package spinbox.containers;
+
+import javafx.util.Pair;
+import spinbox.DateTime;
+import spinbox.containers.lists.TaskList;
+import spinbox.containers.lists.TaskListListener;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Index of the tasks of every module, partitioned by task type and done status. Each partition is kept in
+ * TaskComparator order, so cross-module views can read tasks without gathering and sorting them again.
+ * Undone tasks other than exams are additionally kept in a single urgency queue, so the most urgent tasks
+ * can be read without merging the partitions. Tasks with a time interval are also kept by start time, so
+ * overlapping tasks can be found without scanning every module. Recurring tasks are kept apart and only
+ * expanded into occurrences for the window a query needs.
+ */
+public class TaskIndex implements TaskListListener {
+    private static final Set<TaskType> URGENT_TASK_TYPES = EnumSet.complementOf(EnumSet.of(TaskType.EXAM));
+    private static final Comparator<Task> TASK_ORDER = new TaskList.TaskComparator();
+    private static final Comparator<Pair<String, Task>> ENTRY_ORDER = (a, b) -> {
+        int result = TASK_ORDER.compare(a.getValue(), b.getValue());
+        if (result == 0) {
+            result = a.getKey().compareTo(b.getKey());
+        }
+        if (result == 0) {
+            result = Integer.compare(a.getValue().getId(), b.getValue().getId());
+        }
+        return result;
+    };
+
+    private Map<TaskType, NavigableSet<Pair<String, Task>>> undoneTasks;
+    private Map<TaskType, NavigableSet<Pair<String, Task>>> doneTasks;
+    private NavigableSet<Pair<String, Task>> urgentTasks;
+    private NavigableMap<Long, List<Pair<String, Task>>> intervalTasksByStart;
+    private long longestInterval;
+    private Set<Pair<String, Task>> recurringTasks;
+
+    /**
+     * Constructor for an empty task index.
+     */
+    public TaskIndex() {
+        undoneTasks = new EnumMap<>(TaskType.class);
+        doneTasks = new EnumMap<>(TaskType.class);
+        urgentTasks = new TreeSet<>(ENTRY_ORDER);
+        intervalTasksByStart = new TreeMap<>();
+        recurringTasks = new LinkedHashSet<>();
+        for (TaskType taskType : TaskType.values()) {
+            undoneTasks.put(taskType, new TreeSet<>(ENTRY_ORDER));
+            doneTasks.put(taskType, new TreeSet<>(ENTRY_ORDER));
+        }
+    }
+
+    /**
+     * Indexes every task of a task list, and keeps the index current as the task list changes.
+     * @param tasks The task list of a module.
+     */
+    public void track(TaskList tasks) {
+        for (Task task : tasks.getList()) {
+            this.taskAdded(tasks.getParentCode(), task);
+        }
+        tasks.setListener(this);
+    }
+
+    /**
+     * Removes every task of a task list from the index and stops following its changes.
+     * @param tasks The task list of a module.
+     */
+    public void untrack(TaskList tasks) {
+        tasks.setListener(null);
+        for (Task task : tasks.getList()) {
+            this.taskRemoved(tasks.getParentCode(), task);
+        }
+    }
+
+    @Override
+    public void taskAdded(String moduleCode, Task task) {
+        Pair<String, Task> entry = new Pair<>(moduleCode, task);
+        this.getPartition(task.getTaskType(), task.getDone()).add(entry);
+        if (isUrgent(task)) {
+            urgentTasks.add(entry);
+        }
+        if (hasInterval(task) && ((Schedulable) task).isRecurring()) {
+            recurringTasks.add(entry);
+        } else if (hasInterval(task)) {
+            long start = getStartTime(task);
+            longestInterval = Math.max(longestInterval, getEndTime(task) - start);
+            intervalTasksByStart.computeIfAbsent(start, key -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    @Override
+    public void taskRemoved(String moduleCode, Task task) {
+        Pair<String, Task> entry = new Pair<>(moduleCode, task);
+        this.getPartition(task.getTaskType(), task.getDone()).remove(entry);
+        if (isUrgent(task)) {
+            urgentTasks.remove(entry);
+        }
+        if (hasInterval(task) && ((Schedulable) task).isRecurring()) {
+            recurringTasks.remove(entry);
+        } else if (hasInterval(task)) {
+            long start = getStartTime(task);
+            List<Pair<String, Task>> startingTogether = intervalTasksByStart.get(start);
+            if (startingTogether != null) {
+                startingTogether.remove(entry);
+                if (startingTogether.isEmpty()) {
+                    intervalTasksByStart.remove(start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the most urgent undone tasks across all modules, excluding exams which are shown separately.
+     * Only the first entries of the urgency queue are visited, regardless of the total number of tasks.
+     * @param limit The maximum number of tasks to return.
+     * @return List of at most limit tasks paired with their module codes, in TaskComparator order.
+     */
+    public List<Pair<String, Task>> getUrgentTasks(int limit) {
+        List<Pair<String, Task>> output = new ArrayList<>();
+        Iterator<Pair<String, Task>> iterator = urgentTasks.iterator();
+        while (output.size() < limit && iterator.hasNext()) {
+            output.add(iterator.next());
+        }
+        return output;
+    }
+
+    /**
+     * Returns the tasks of one type and done status across all modules, in TaskComparator order.
+     * @param taskType The type of tasks.
+     * @param isDone The done status of tasks.
+     * @return List of tasks paired with their module codes.
+     */
+    public List<Pair<String, Task>> getTasks(TaskType taskType, boolean isDone) {
+        return new ArrayList<>(this.getPartition(taskType, isDone));
+    }
+
+    /**
+     * Returns the tasks of one type across all modules, in TaskComparator order.
+     * @param taskType The type of tasks.
+     * @return List of tasks paired with their module codes, with undone tasks before done tasks.
+     */
+    public List<Pair<String, Task>> getTasks(TaskType taskType) {
+        List<Pair<String, Task>> output = this.getTasks(taskType, false);
+        output.addAll(this.getPartition(taskType, true));
+        return output;
+    }
+
+    /**
+     * Returns the tasks of several types and one done status across all modules, in TaskComparator order.
+     * The already ordered partitions are merged rather than sorted again.
+     * @param taskTypes The types of tasks.
+     * @param isDone The done status of tasks.
+     * @return List of tasks paired with their module codes.
+     */
+    public List<Pair<String, Task>> getTasks(Set<TaskType> taskTypes, boolean isDone) {
+        PriorityQueue<Pair<Pair<String, Task>, Iterator<Pair<String, Task>>>> heads =
+                new PriorityQueue<>((a, b) -> ENTRY_ORDER.compare(a.getKey(), b.getKey()));
+        for (TaskType taskType : taskTypes) {
+            Iterator<Pair<String, Task>> iterator = this.getPartition(taskType, isDone).iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Pair<>(iterator.next(), iterator));
+            }
+        }
+
+        List<Pair<String, Task>> output = new ArrayList<>();
+        while (!heads.isEmpty()) {
+            Pair<Pair<String, Task>, Iterator<Pair<String, Task>>> head = heads.poll();
+            output.add(head.getKey());
+            Iterator<Pair<String, Task>> iterator = head.getValue();
+            if (iterator.hasNext()) {
+                heads.add(new Pair<>(iterator.next(), iterator));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Returns the undone tasks of every type across all modules, in TaskComparator order.
+     * @return List of tasks paired with their module codes.
+     */
+    public List<Pair<String, Task>> getUndoneTasks() {
+        return this.getTasks(EnumSet.allOf(TaskType.class), false);
+    }
+
+    /**
+     * Returns the number of tasks of one type and done status across all modules.
+     * @param taskType The type of tasks.
+     * @param isDone The done status of tasks.
+     * @return The number of tasks.
+     */
+    public int count(TaskType taskType, boolean isDone) {
+        return this.getPartition(taskType, isDone).size();
+    }
+
+    /**
+     * Returns the tasks across all modules whose time intervals overlap with the given interval. Only tasks
+     * starting within the longest indexed interval before the given start are visited, and recurring tasks
+     * are only expanded within the given interval.
+     * @param start The start of the interval.
+     * @param end The end of the interval.
+     * @return List of overlapping tasks paired with their module codes, in order of first overlapping occurrence.
+     */
+    public List<Pair<String, Task>> getOverlappingTasks(DateTime start, DateTime end) {
+        Set<Pair<String, Task>> output = new LinkedHashSet<>();
+        for (Occurrence occurrence : this.getOccurrences(start, end)) {
+            output.add(occurrence.entry);
+        }
+        return new ArrayList<>(output);
+    }
+
+    /**
+     * Returns every pair of tasks across all modules whose time intervals overlap. The occurrences are swept in
+     * order of start time while the occurrences still in progress are kept in order of end time, so each
+     * occurrence is only compared with the occurrences it actually overlaps.
+     * @return List of clashing pairs, the earlier starting task first, in order of the first clash.
+     */
+    public List<Pair<Pair<String, Task>, Pair<String, Task>>> getClashes() {
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (List<Pair<String, Task>> startingTogether : intervalTasksByStart.values()) {
+            for (Pair<String, Task> entry : startingTogether) {
+                occurrences.add(new Occurrence(entry, getStartTime(entry.getValue()), getEndTime(entry.getValue())));
+            }
+        }
+        for (Pair<String, Task> entry : recurringTasks) {
+            for (Pair<DateTime, DateTime> occurrence : ((Schedulable) entry.getValue()).getOccurrences()) {
+                occurrences.add(new Occurrence(entry, occurrence.getKey(), occurrence.getValue()));
+            }
+        }
+        if (!recurringTasks.isEmpty()) {
+            occurrences.sort(Comparator.comparingLong(occurrence -> occurrence.start));
+        }
+
+        Set<Pair<Pair<String, Task>, Pair<String, Task>>> clashes = new LinkedHashSet<>();
+        PriorityQueue<Occurrence> inProgress =
+                new PriorityQueue<>(Comparator.comparingLong(occurrence -> occurrence.end));
+        for (Occurrence occurrence : occurrences) {
+            while (!inProgress.isEmpty() && inProgress.peek().end <= occurrence.start) {
+                inProgress.poll();
+            }
+            for (Occurrence earlierOccurrence : inProgress) {
+                clashes.add(new Pair<>(earlierOccurrence.entry, occurrence.entry));
+            }
+            inProgress.add(occurrence);
+        }
+        return new ArrayList<>(clashes);
+    }
+
+    /**
+     * Returns the free intervals left between the tasks of every module within a window. The occurrences within
+     * the window are gathered in order of start time, so the busy intervals are merged in a single sweep.
+     * @param from The start of the window.
+     * @param to The end of the window.
+     * @param minimumDuration The shortest free interval to return, in milliseconds.
+     * @return List of free intervals as start and end pairs, in chronological order.
+     */
+    public List<Pair<DateTime, DateTime>> getFreeSlots(DateTime from, DateTime to, long minimumDuration) {
+        List<Pair<DateTime, DateTime>> freeSlots = new ArrayList<>();
+        long freeFrom = from.getDateTime().getTime();
+        long windowEnd = to.getDateTime().getTime();
+        for (Occurrence occurrence : this.getOccurrences(from, to)) {
+            if (occurrence.start - freeFrom >= minimumDuration) {
+                freeSlots.add(new Pair<>(new DateTime(new Date(freeFrom)), new DateTime(new Date(occurrence.start))));
+            }
+            freeFrom = Math.max(freeFrom, occurrence.end);
+        }
+        if (windowEnd - freeFrom >= minimumDuration) {
+            freeSlots.add(new Pair<>(new DateTime(new Date(freeFrom)), to));
+        }
+        return freeSlots;
+    }
+
+    private List<Occurrence> getOccurrences(DateTime from, DateTime to) {
+        long fromTime = from.getDateTime().getTime();
+        long toTime = to.getDateTime().getTime();
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (List<Pair<String, Task>> startingTogether : intervalTasksByStart.subMap(fromTime - longestInterval,
+                true, toTime, false).values()) {
+            for (Pair<String, Task> entry : startingTogether) {
+                long endTime = getEndTime(entry.getValue());
+                if (endTime > fromTime) {
+                    occurrences.add(new Occurrence(entry, getStartTime(entry.getValue()), endTime));
+                }
+            }
+        }
+        boolean hasRecurringOccurrences = false;
+        for (Pair<String, Task> entry : recurringTasks) {
+            for (Pair<DateTime, DateTime> occurrence : ((Schedulable) entry.getValue()).getOccurrences(from, to)) {
+                occurrences.add(new Occurrence(entry, occurrence.getKey(), occurrence.getValue()));
+                hasRecurringOccurrences = true;
+            }
+        }
+        if (hasRecurringOccurrences) {
+            occurrences.sort(Comparator.comparingLong(occurrence -> occurrence.start));
+        }
+        return occurrences;
+    }
+
+    private static boolean hasInterval(Task task) {
+        return task.isSchedulable() && task.getTaskType() != TaskType.DEADLINE;
+    }
+
+    private static long getStartTime(Task task) {
+        return ((Schedulable) task).getStartDate().getDateTime().getTime();
+    }
+
+    private static long getEndTime(Task task) {
+        return ((Schedulable) task).getEndDate().getDateTime().getTime();
+    }
+
+    private boolean isUrgent(Task task) {
+        return !task.getDone() && URGENT_TASK_TYPES.contains(task.getTaskType());
+    }
+
+    private NavigableSet<Pair<String, Task>> getPartition(TaskType taskType, boolean isDone) {
+        return isDone ? doneTasks.get(taskType) : undoneTasks.get(taskType);
+    }
+
+    /**
+     * A single occurrence of a task with a time interval, in milliseconds.
+     */
+    private static class Occurrence {
+        private final Pair<String, Task> entry;
+        private final long start;
+        private final long end;
+
+        Occurrence(Pair<String, Task> entry, long start, long end) {
+            this.entry = entry;
+            this.start = start;
+            this.end = end;
+        }
+
+        Occurrence(Pair<String, Task> entry, DateTime start, DateTime end) {
+            this(entry, start.getDateTime().getTime(), end.getDateTime().getTime());
+        }
+    }
+}
@@ -63,7 +63,7 @@ public class FileList extends SpinBoxList<File> {
     @Override
     public void loadData() throws DataReadWriteException, CorruptedDataException {
         LOGGER.entering(getClass().getName(), "loadData");
-        List<String> savedData = localStorage.loadData();
+        List<String> savedData = this.loadStoredLines();
         for (String datum : savedData) {
             File file = new File();
             file.fromStoredString(datum);
@@ -85,7 +85,7 @@ public class FileList extends SpinBoxList<File> {
             dataToSave.add(file.storeString());
         }
 
-        localStorage.writeData(dataToSave);
+        this.writeStoredLines(dataToSave);
         LOGGER.fine(LOG_SAVE_DATA);
         LOGGER.exiting(getClass().getName(), "saveData");
     }
@@ -99,7 +99,7 @@ public class FileList extends SpinBoxList<File> {
         LOGGER.entering(getClass().getName(), "viewList");
         LOGGER.fine(LOG_VIEW_LIST);
         LOGGER.exiting(getClass().getName(), "viewList");
-        return outputNumberedListWithHeader(VIEW_FILE_LIST_HEADER, this.getList());
+        return outputIdentifiedListWithHeader(VIEW_FILE_LIST_HEADER, this.getList());
     }
 
     /**
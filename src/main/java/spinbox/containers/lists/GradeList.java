@@ -6,6 +6,8 @@ import spinbox.exceptions.FileCreationException;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.InvalidIndexException;
 import spinbox.exceptions.InputException;
+import spinbox.entities.GradeProjection;
+import spinbox.entities.GradeSummary;
 import spinbox.entities.items.GradedComponent;
 
 import java.util.ArrayList;
@@ -24,6 +26,12 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     private static final String GRADE_LIST_FILE_NAME = "/grades.txt";
     private static final String VIEW_GRADE_LIST_HEADER = "Here are the graded components in your module:";
     private static final String GRADE_CONTAIN = "Here are the graded components that contain ";
+    private static final String GRADE_SUMMARY_HEADER = "Here is the summary of graded components in your module:";
+
+    private double totalWeight;
+    private double totalWeightedScore;
+    private double knownWeight;
+    private GradeProjection cachedProjection;
 
     /**
      * Constructor for GradeList.
@@ -37,6 +45,111 @@ public class GradeList extends SpinBoxList<GradedComponent> {
         localStorage = new Storage(DIRECTORY_NAME + this.getParentCode() + GRADE_LIST_FILE_NAME);
     }
 
+    @Override
+    public GradedComponent add(GradedComponent element) throws DataReadWriteException {
+        this.addToAggregates(element);
+        return super.add(element);
+    }
+
+    @Override
+    public GradedComponent addFromStorage(GradedComponent element) {
+        this.addToAggregates(element);
+        return super.addFromStorage(element);
+    }
+
+    @Override
+    public GradedComponent remove(int index) throws DataReadWriteException, InvalidIndexException {
+        GradedComponent removedComponent = super.remove(index);
+        this.removeFromAggregates(removedComponent);
+        return removedComponent;
+    }
+
+    @Override
+    public GradedComponent update(int index, boolean value) throws DataReadWriteException, InvalidIndexException {
+        cachedProjection = null;
+        return super.update(index, value);
+    }
+
+    @Override
+    public void rollback() {
+        for (GradedComponent gradedComponent : list) {
+            this.removeFromAggregates(gradedComponent);
+        }
+        super.rollback();
+        for (GradedComponent gradedComponent : list) {
+            this.addToAggregates(gradedComponent);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        totalWeight = 0;
+        totalWeightedScore = 0;
+        knownWeight = 0;
+        cachedProjection = null;
+    }
+
+    /**
+     * Returns the running totals of the graded components in this list, which are kept up to date as
+     * components are added, removed and scored rather than summed on demand.
+     * @return GradeSummary of the current totals.
+     */
+    public GradeSummary getSummary() {
+        return new GradeSummary(totalWeight, totalWeightedScore, knownWeight);
+    }
+
+    /**
+     * Returns a projection of the achievable overall percentage over a primitive copy of the graded components.
+     * The projection is cached until a component is added, removed, updated, scored or moved by sorting.
+     * @return GradeProjection indexed by the current positions of the graded components.
+     */
+    public GradeProjection getProjection() {
+        if (cachedProjection == null) {
+            int size = list.size();
+            double[] weights = new double[size];
+            double[] weightedScores = new double[size];
+            boolean[] scoresKnown = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                GradedComponent gradedComponent = list.get(i);
+                weights[i] = gradedComponent.getWeight();
+                weightedScores[i] = gradedComponent.getWeightedScore();
+                scoresKnown[i] = gradedComponent.isScoreKnown();
+            }
+            cachedProjection = new GradeProjection(weights, weightedScores, scoresKnown);
+        }
+        return cachedProjection;
+    }
+
+    /**
+     * Gives the summary of graded components in string format.
+     * @return Returns the summary header followed by the totals as strings.
+     */
+    public List<String> viewSummary() {
+        List<String> output = new ArrayList<>();
+        output.add(GRADE_SUMMARY_HEADER);
+        output.addAll(this.getSummary().toStringList());
+        return output;
+    }
+
+    private void addToAggregates(GradedComponent gradedComponent) {
+        cachedProjection = null;
+        totalWeight += gradedComponent.getWeight();
+        if (gradedComponent.isScoreKnown()) {
+            totalWeightedScore += gradedComponent.getWeightedScore();
+            knownWeight += gradedComponent.getWeight();
+        }
+    }
+
+    private void removeFromAggregates(GradedComponent gradedComponent) {
+        cachedProjection = null;
+        totalWeight -= gradedComponent.getWeight();
+        if (gradedComponent.isScoreKnown()) {
+            totalWeightedScore -= gradedComponent.getWeightedScore();
+            knownWeight -= gradedComponent.getWeight();
+        }
+    }
+
     /**
      * A comparator to sort the grade components based on descending weight.
      */
@@ -54,6 +167,7 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     public void sort() {
         LOGGER.entering(getClass().getName(), "sort");
         list.sort(new GradedComponentComparator());
+        cachedProjection = null;
         LOGGER.fine(LOG_SORT_LIST);
         LOGGER.exiting(getClass().getName(), "sort");
     }
@@ -66,7 +180,7 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     @Override
     public void loadData() throws DataReadWriteException, CorruptedDataException {
         LOGGER.entering(getClass().getName(), "loadData");
-        List<String> savedData = localStorage.loadData();
+        List<String> savedData = this.loadStoredLines();
         for (String datum : savedData) {
             GradedComponent gradedComponent = new GradedComponent();
             gradedComponent.fromStoredString(datum);
@@ -87,7 +201,7 @@ public class GradeList extends SpinBoxList<GradedComponent> {
         for (GradedComponent gradedComponent: this.getList()) {
             dataToSave.add(gradedComponent.storeString());
         }
-        localStorage.writeData(dataToSave);
+        this.writeStoredLines(dataToSave);
         LOGGER.fine(LOG_SAVE_DATA);
         LOGGER.exiting(getClass().getName(), "saveData");
     }
@@ -101,7 +215,7 @@ public class GradeList extends SpinBoxList<GradedComponent> {
         LOGGER.entering(getClass().getName(), "viewList");
         LOGGER.fine(LOG_VIEW_LIST);
         LOGGER.exiting(getClass().getName(), "viewList");
-        return outputNumberedListWithHeader(VIEW_GRADE_LIST_HEADER, this.getList());
+        return outputIdentifiedListWithHeader(VIEW_GRADE_LIST_HEADER, this.getList());
     }
 
     /**
@@ -137,7 +251,13 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     public void updateGradeWeightedScore(int index, double yourScore, double maximumScore) throws InputException,
             DataReadWriteException {
         LOGGER.entering(getClass().getName(), "updateGradeWeightedScore");
-        this.get(index).updateWeightedScore(yourScore, maximumScore);
+        GradedComponent gradedComponent = this.get(index);
+        this.removeFromAggregates(gradedComponent);
+        try {
+            gradedComponent.updateWeightedScore(yourScore, maximumScore);
+        } finally {
+            this.addToAggregates(gradedComponent);
+        }
         this.saveData();
         LOGGER.exiting(getClass().getName(), "updateGradeWeightedScore");
     }
@@ -152,7 +272,10 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     public void updateGradeWeightedScore(int index, double weightedScore) throws DataReadWriteException,
             InvalidIndexException {
         LOGGER.entering(getClass().getName(), "updateGradeWeightedScore");
-        this.get(index).updateWeightedScore(weightedScore);
+        GradedComponent gradedComponent = this.get(index);
+        this.removeFromAggregates(gradedComponent);
+        gradedComponent.updateWeightedScore(weightedScore);
+        this.addToAggregates(gradedComponent);
         this.saveData();
         LOGGER.exiting(getClass().getName(), "updateGradeWeightedScore");
     }
@@ -22,6 +22,9 @@ public class HelpList {
             + "\t10. help / score : To score a graded component and mark it as complete\n"
             + "\t11. help / populate : To load SpinBox with sample data for trying it out \n"
             + "\t12. help / find : To search a list for items containing keyword \n"
+            + "\t13. help / project : To find the scores needed on ungraded components to reach a target grade\n"
+            + "\t14. help / find-slot : To find free time slots left between the scheduled tasks of all modules\n"
+            + "\t15. help / run : To run a script of commands and save their changes once at the end\n"
             + horizontalLine);
 
     public final String view = helpOutput.concat(horizontalLine + "\n" + "Command: view\n"
@@ -36,7 +39,11 @@ public class HelpList {
             + "\t5. View the list of grade components under module CG1111: view / modules cg1111 grades\n"
             + "\t6. View the list of notes under module CG1111: view / modules cg1111 notes\n"
             + "\t7. View the list of tasks under module CG1111: view / modules cg1111 tasks\n"
-            + "\t6. View the specify month and year under calendar: view / calendar 01/2020\n" + horizontalLine);
+            + "\t8. View the grade summary of module CG1111: view / cg1111 grades summary\n"
+            + "\t9. View the specify month and year under calendar: view / calendar 01/2020\n"
+            + "\t10. View the clashing tasks across all modules: view / clashes\n"
+            + "\t11. View the upcoming exams across all modules: view / exams\n"
+            + "\t12. View the archived tasks of module CG1111: view / cg1111 archive\n" + horizontalLine);
 
     public final String add = helpOutput.concat(horizontalLine + "\n" + "Command: add\n"
             + "Function: To add a module/task/grade/file/note component\n"
@@ -57,7 +64,11 @@ public class HelpList {
             + "\t\tc. event/exam/lab/lecture/tutorial -- Format: add <module code> / <event/exam/lab/lecture/"
             + "tutorial>\n"
             + "\t\t <event/exam/lab/lecture/tutorial description> at: <start as MM/DD/YYYY HH:MM>"
-            + " to <end as MM/DD/YYYY HH:MM>\n" + horizontalLine);
+            + " to <end as MM/DD/YYYY HH:MM>\n"
+            + "\t\td. weekly event/lab/lecture/tutorial -- append to format c: weekly until: <MM/DD/YYYY>"
+            + " [except: <MM/DD/YYYY>,<MM/DD/YYYY>]\n"
+            + "\t6. Add a weekly lecture under CG1111, skipping recess week: add CG1111 / lecture L1 at: "
+            + "01/13/2030 10:00 to 01/13/2030 12:00 weekly until: 04/14/2030 except: 02/24/2030\n" + horizontalLine);
 
     public final String remove = helpOutput.concat(horizontalLine + "\n" + "Command: remove\n"
             + "Function: To remove a module/task/grade/file/note component\n"
@@ -137,6 +148,17 @@ public class HelpList {
             + "\t2. Score the 2nd grade item under CG1111 with relative score: score CG1111 / 2 marks: 26/30\n"
             + horizontalLine);
 
+    public final String project = helpOutput.concat(horizontalLine + "\n" + "Command: project\n"
+            + "Function: To find the minimum scores needed on unscored grade items to reach a target percentage,\n"
+            + "together with the worst and best overall percentage still possible\n"
+            + "Format 1 (Single module): project <module code> / <target>%\n"
+            + "Format 2 (All modules): project main / <target>%\n"
+            + "Example:\n"
+            + "\t* Note: omit module code if current page is the specific module *\n"
+            + "\t1. Find the scores needed to reach 80% in CG1111: project CG1111 / 80%\n"
+            + "\t2. Find the scores needed to reach 70% in every module: project main / 70%\n"
+            + horizontalLine);
+
     public final String export = helpOutput.concat(horizontalLine + "\n" + "Command: export\n"
             + "Function: To export a snapshot of the current tasks/files/grades within a module\n"
             + "Format: export <module code> / <item type>\n"
@@ -145,6 +167,7 @@ public class HelpList {
             + "\t1. Export the files under module CG1111: export CG1111 / files\n"
             + "\t2. Export the tasks under module CG1111, while viewing CG1111: export / tasks\n"
             + "\t3. Export all deadlines across all modules: export / deadlines\n"
+            + "\t4. Export the archived tasks under module CG1111: export CG1111 / archive\n"
             + horizontalLine);
 
     public final String populate = helpOutput.concat(horizontalLine + "\n" + "Command: populate\n"
@@ -161,5 +184,28 @@ public class HelpList {
             + "\t2. Find files containing 'a' in name in CG1111: find CG1111 / file a\n"
             + "\t3. Find graded components containing 'a' in name in CG1111: "
             + "find CG1111 / grade a \n"
+            + "\t4. Find archived tasks containing 'a' in name in CG1111: find CG1111 / task archived: a\n"
+            + horizontalLine);
+
+    public final String findSlot = helpOutput.concat(horizontalLine + "\n" + "Command: find-slot\n"
+            + "Function: To find the free time slots of at least a given duration within a window, left between\n"
+            + "the events, exams, labs, lectures and tutorials of all modules\n"
+            + "Format: find-slot / <duration> between: <start as MM/DD/YYYY HH:MM> and <end as MM/DD/YYYY HH:MM>\n"
+            + "Example:\n"
+            + "\t1. Find free slots of at least 2 hours in a week: "
+            + "find-slot / 2h between: 10/20/2026 09:00 and 10/27/2026 18:00\n"
+            + "\t2. Find free slots of at least 90 minutes in a day: "
+            + "find-slot / 1h30m between: 10/20/2026 09:00 and 10/20/2026 18:00\n"
+            + horizontalLine);
+
+    public final String run = helpOutput.concat(horizontalLine + "\n" + "Command: run\n"
+            + "Function: To run a script of commands, one per line, saving their changes once at the end.\n"
+            + "Failing commands are skipped, unless the script is run with --atomic, in which case it stops at the\n"
+            + "first failing command and none of its changes are saved\n"
+            + "Format: run / <path of script> [--atomic]\n"
+            + "Example:\n"
+            + "\t1. Run the commands in commands.txt: run / commands.txt\n"
+            + "\t2. Run the commands in import.txt, only if all succeed: run / import.txt --atomic\n"
+            + "\t* Note: a script can also be run without starting SpinBox: SpinBox --script commands.txt *\n"
             + horizontalLine);
-}
\ No newline at end of file
+}
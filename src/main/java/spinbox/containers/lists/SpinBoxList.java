@@ -10,7 +10,9 @@ import spinbox.entities.items.Item;
 import spinbox.datapersistors.storage.StorageContainer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,9 +25,22 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
     private static final String LOG_INVALID_INDEX = "Index inputted is invalid.";
     private static final String LOG_UPDATE = "Updated element in list.";
     private static final String LOG_OUTPUT_NUMBERED_LIST = "Returned numbered list with header.";
+    private static final String LOG_BEGIN_BATCH = "Started batch, sorting and saving deferred.";
+    private static final String LOG_COMMIT_BATCH = "Committed batch.";
+    private static final String LOG_ROLLBACK_BATCH = "Rolled back batch.";
+    private static final int FIRST_ID = 1;
+    private static final String NEXT_ID_HEADER = "next id: ";
     static final String DIRECTORY_NAME = "SpinBoxData/";
     protected List<T> list;
+    private Map<Integer, T> itemsById;
+    private Map<Integer, Integer> positionsById;
+    private int nextId;
     private String parentCode;
+    private int batchDepth;
+    private List<T> batchSnapshot;
+    private List<Boolean> batchDoneSnapshot;
+    private boolean hasPendingSort;
+    private boolean hasPendingSave;
     Storage localStorage;
 
     /**
@@ -36,6 +51,9 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
         LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
         this.list = new ArrayList<>();
+        this.itemsById = new HashMap<>();
+        this.positionsById = new HashMap<>();
+        this.nextId = FIRST_ID;
         this.parentCode = parentCode;
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
@@ -64,7 +82,7 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
      * Gets the module code of the module containing an instance of this list.
      * @return Returns the module code as a String.
      */
-    String getParentCode() {
+    public String getParentCode() {
         return parentCode;
     }
 
@@ -76,6 +94,7 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
      */
     public T add(T element) throws DataReadWriteException {
         LOGGER.entering(getClass().getName(), "add");
+        this.registerId(element);
         list.add(element);
         this.sortAndSaveData();
         LOGGER.fine(LOG_ADD_ELEMENT);
@@ -90,6 +109,7 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
      */
     public T addFromStorage(T element) {
         LOGGER.entering(getClass().getName(), "addFromStorage");
+        this.registerId(element);
         list.add(element);
         this.sort();
         LOGGER.fine(LOG_ADD_FROM_STORAGE);
@@ -107,8 +127,9 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
     public T remove(int index) throws DataReadWriteException, InvalidIndexException {
         LOGGER.entering(getClass().getName(), "remove");
         try {
-            this.saveData();
             T removedItem = list.remove(index);
+            itemsById.remove(removedItem.getId());
+            this.saveDataUnlessBatching();
             LOGGER.fine(LOG_REMOVE_ELEMENT);
             LOGGER.exiting(getClass().getName(), "remove");
             return removedItem;
@@ -118,6 +139,15 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
         }
     }
 
+    /**
+     * Removes an element from the list without saving, for lists that move elements elsewhere while saving.
+     * @param element The element to be removed.
+     */
+    protected void removeWithoutSaving(T element) {
+        list.remove(element);
+        itemsById.remove(element.getId());
+    }
+
     /**
      * Returns element at index.
      * @param index The index of element to be returned.
@@ -135,6 +165,114 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
         }
     }
 
+    /**
+     * Returns the element with the given identifier, regardless of its current position in the list.
+     * @param id The identifier of the element.
+     * @return The element with the identifier.
+     * @throws InvalidIndexException No element in the list has the identifier.
+     */
+    public T getById(int id) throws InvalidIndexException {
+        T element = itemsById.get(id);
+        if (element == null) {
+            LOGGER.warning(LOG_INVALID_INDEX);
+            throw new InvalidIndexException();
+        }
+        return element;
+    }
+
+    /**
+     * Resolves a user-provided reference into the current index of an element. The reference is either a
+     * 1-based position in the list, e.g. 3, or the identifier of an element, e.g. #1a. Positions of identifiers
+     * are remembered, and only looked up again once the list has changed since they were last looked up.
+     * @param reference The position or identifier of the element.
+     * @return The current 0-based index of the element.
+     * @throws InvalidIndexException No element in the list has the identifier.
+     * @throws NumberFormatException The reference is neither a number nor an identifier.
+     */
+    public int getIndex(String reference) throws InvalidIndexException, NumberFormatException {
+        if (!Item.isIdReference(reference)) {
+            return Integer.parseInt(reference) - 1;
+        }
+        int id = Item.parseIdReference(reference);
+        T element = this.getById(id);
+        Integer position = positionsById.get(id);
+        if (position == null || position >= list.size() || list.get(position) != element) {
+            positionsById.clear();
+            for (int i = 0; i < list.size(); i++) {
+                positionsById.put(list.get(i).getId(), i);
+            }
+            position = positionsById.get(id);
+        }
+        return position;
+    }
+
+    /**
+     * Resolves several user-provided references into the current indexes of their elements, checking all of them
+     * before any element is changed.
+     * @param references The positions or identifiers of the elements.
+     * @return The current 0-based indexes of the elements, in the same order as the references.
+     * @throws InvalidIndexException A position is out of range, no element in the list has one of the
+     *     identifiers, or two references refer to the same element.
+     * @throws NumberFormatException A reference is neither a number nor an identifier.
+     */
+    public List<Integer> getIndexes(String[] references) throws InvalidIndexException, NumberFormatException {
+        List<Integer> indexes = new ArrayList<>();
+        for (String reference : references) {
+            int index = this.getIndex(reference);
+            if (index < 0 || index >= list.size() || indexes.contains(index)) {
+                LOGGER.warning(LOG_INVALID_INDEX);
+                throw new InvalidIndexException();
+            }
+            indexes.add(index);
+        }
+        return indexes;
+    }
+
+    /**
+     * Gives an element a unique identifier within this list if it does not have one yet, and indexes it.
+     * @param element The element being added to the list.
+     */
+    private void registerId(T element) {
+        if (!element.hasId() || itemsById.containsKey(element.getId())) {
+            element.setId(nextId);
+        }
+        nextId = Math.max(nextId, element.getId() + 1);
+        itemsById.put(element.getId(), element);
+    }
+
+    /**
+     * Loads the lines of the list's localStorage, without the line recording the next identifier to be given.
+     * That identifier is kept, so that identifiers of removed or archived elements are never given again.
+     * @return The lines of the stored elements.
+     * @throws DataReadWriteException loadData fail due to I/O Error.
+     * @throws CorruptedDataException The recorded next identifier is not a number.
+     */
+    protected List<String> loadStoredLines() throws DataReadWriteException, CorruptedDataException {
+        List<String> lines = localStorage.loadData();
+        if (!lines.isEmpty() && lines.get(0).startsWith(NEXT_ID_HEADER)) {
+            try {
+                nextId = Math.max(nextId, Integer.parseInt(lines.get(0).substring(NEXT_ID_HEADER.length())));
+            } catch (NumberFormatException e) {
+                throw new CorruptedDataException();
+            }
+            lines.remove(0);
+        }
+        return lines;
+    }
+
+    /**
+     * Saves the lines of the stored elements to the list's localStorage, after a line recording the next
+     * identifier to be given.
+     * @param lines The lines of the stored elements.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    protected void writeStoredLines(List<String> lines) throws DataReadWriteException {
+        List<String> storedLines = new ArrayList<>();
+        storedLines.add(NEXT_ID_HEADER + nextId);
+        storedLines.addAll(lines);
+        localStorage.writeData(storedLines);
+    }
+
     /**
      * Updates an item to value.
      * @param index The index of element to be updated.
@@ -164,10 +302,105 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
      * @throws DataReadWriteException saveData fail due to I/O Error.
      */
     public void sortAndSaveData() throws DataReadWriteException {
+        if (this.isBatching()) {
+            hasPendingSort = true;
+            hasPendingSave = true;
+            return;
+        }
         this.sort();
         this.saveData();
     }
 
+    /**
+     * Saves the list, or defers the save to the end of the current batch if one is in progress.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    private void saveDataUnlessBatching() throws DataReadWriteException {
+        if (this.isBatching()) {
+            hasPendingSave = true;
+            return;
+        }
+        this.saveData();
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #commit()} is called, changes are only applied in memory,
+     * so indices stay stable and the list is sorted and saved once at the end instead of once per change.
+     * Batches may be nested, in which case only the commit of the outermost batch sorts and saves.
+     */
+    public void beginBatch() {
+        LOGGER.entering(getClass().getName(), "beginBatch");
+        if (batchDepth == 0) {
+            batchSnapshot = new ArrayList<>(list);
+            batchDoneSnapshot = new ArrayList<>();
+            for (T element : list) {
+                batchDoneSnapshot.add(element.getDone());
+            }
+        }
+        batchDepth += 1;
+        LOGGER.fine(LOG_BEGIN_BATCH);
+        LOGGER.exiting(getClass().getName(), "beginBatch");
+    }
+
+    /**
+     * Ends the current batch. If it is the outermost batch, sorts and saves the list once if it was changed
+     * during the batch.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public void commit() throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "commit");
+        if (batchDepth > 1) {
+            batchDepth -= 1;
+            LOGGER.exiting(getClass().getName(), "commit");
+            return;
+        }
+        batchDepth = 0;
+        batchSnapshot = null;
+        batchDoneSnapshot = null;
+        if (hasPendingSort) {
+            this.sort();
+        }
+        if (hasPendingSave) {
+            this.saveData();
+        }
+        hasPendingSort = false;
+        hasPendingSave = false;
+        LOGGER.fine(LOG_COMMIT_BATCH);
+        LOGGER.exiting(getClass().getName(), "commit");
+    }
+
+    /**
+     * Ends every batch in progress without saving, and puts back the elements and done statuses the list had
+     * when the outermost batch began.
+     */
+    public void rollback() {
+        LOGGER.entering(getClass().getName(), "rollback");
+        if (batchDepth > 0) {
+            list.clear();
+            list.addAll(batchSnapshot);
+            itemsById.clear();
+            for (int i = 0; i < list.size(); i++) {
+                list.get(i).updateDone(batchDoneSnapshot.get(i));
+                itemsById.put(list.get(i).getId(), list.get(i));
+            }
+        }
+        batchDepth = 0;
+        batchSnapshot = null;
+        batchDoneSnapshot = null;
+        hasPendingSort = false;
+        hasPendingSave = false;
+        LOGGER.fine(LOG_ROLLBACK_BATCH);
+        LOGGER.exiting(getClass().getName(), "rollback");
+    }
+
+    /**
+     * Checks whether a batch of changes is currently in progress.
+     * @return True if sorting and saving are currently deferred.
+     */
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
     /**
      * Makes a list with the header as the first element, and the inputList elements numbered in string format.
      * @param header A string that describes the inputList and will be shown in the output.
@@ -187,10 +420,31 @@ public abstract class SpinBoxList<T extends Item> implements StorageContainer {
     }
 
     /**
-     * Clears the list.
+     * Makes a list like {@link #outputNumberedListWithHeader(String, List)}, but with the identifier of each
+     * element shown after it, so that the element can still be referred to after the list is re-sorted.
+     * @param header A string that describes the inputList and will be shown in the output.
+     * @param inputList A list of elements that are to be converted to strings and numbered.
+     * @return A list with the header as first element, and the elements of input list numbered with identifiers.
+     */
+    public List<String> outputIdentifiedListWithHeader(String header, List<T> inputList) {
+        LOGGER.entering(getClass().getName(), "outputIdentifiedListWithHeader");
+        List<String> output = new ArrayList<>();
+        output.add(header);
+        for (int i = 0; i < inputList.size(); i++) {
+            T element = inputList.get(i);
+            output.add(((i + 1) + ". " + element.toString() + " (" + element.getIdString() + ")"));
+        }
+        LOGGER.fine(LOG_OUTPUT_NUMBERED_LIST);
+        LOGGER.exiting(getClass().getName(), "outputIdentifiedListWithHeader");
+        return output;
+    }
+
+    /**
+     * Clears the list. Identifiers of the cleared elements are not given again.
      */
     public void clear() {
         this.list.clear();
+        this.itemsById.clear();
     }
 
     /**
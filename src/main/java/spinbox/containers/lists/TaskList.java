@@ -5,6 +5,7 @@ import spinbox.exceptions.CorruptedDataException;
 import spinbox.datapersistors.storage.Storage;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.FileCreationException;
+import spinbox.exceptions.InvalidIndexException;
 import spinbox.entities.items.tasks.Deadline;
 import spinbox.entities.items.tasks.Event;
 import spinbox.entities.items.tasks.Exam;
@@ -17,7 +18,9 @@ import spinbox.entities.items.tasks.Tutorial;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -29,10 +32,20 @@ public class TaskList extends SpinBoxList<Task> {
     private static final String LOG_VIEW_LIST = "View list.";
     private static final String LOG_CONTAINS_KEYWORD = "Found list of items that contain keyword.";
     private static final String LOG_CORRUPTED = "Corrupted task";
+    private static final String LOG_ARCHIVED = " completed tasks moved to the archive.";
     private static final String TASK_LIST_FILE_NAME = "/tasks.txt";
+    private static final String ARCHIVE_FILE_NAME = "/archive.txt";
+    private static final String ARCHIVE_AGE_PROPERTY = "spinbox.archiveAfterDays";
+    private static final int DEFAULT_ARCHIVE_AGE_DAYS = 30;
+    private static final int ARCHIVE_AGE_DAYS = Integer.getInteger(ARCHIVE_AGE_PROPERTY, DEFAULT_ARCHIVE_AGE_DAYS);
     private static final String DELIMITER_FILTER = " \\| ";
     private static final String VIEW_TASK_LIST_HEADER = "Here are the tasks in your module:";
     private static final String TASKS_CONTAIN = "Here are the tasks that contain ";
+    private static final String VIEW_ARCHIVE_HEADER = "Here are the archived tasks in your module:";
+    private static final String ARCHIVED_TASKS_CONTAIN = "Here are the archived tasks that contain ";
+
+    private TaskListListener listener;
+    private Storage archiveStorage;
 
     /**
      * Constructor for TaskList.
@@ -44,6 +57,94 @@ public class TaskList extends SpinBoxList<Task> {
         LOGGER.setLevel(Level.INFO);
         LOGGER.setUseParentHandlers(true);
         localStorage = new Storage(DIRECTORY_NAME + this.getParentCode() + TASK_LIST_FILE_NAME);
+        archiveStorage = new Storage(DIRECTORY_NAME + this.getParentCode() + ARCHIVE_FILE_NAME);
+    }
+
+    /**
+     * Sets the listener to be notified whenever a task is added, removed or modified in this list.
+     * @param listener The listener, or null to stop notifications.
+     */
+    public void setListener(TaskListListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Task add(Task element) throws DataReadWriteException {
+        Task addedTask = super.add(element);
+        if (this.isInList(addedTask)) {
+            this.notifyAdded(addedTask);
+        }
+        return addedTask;
+    }
+
+    @Override
+    public Task addFromStorage(Task element) {
+        Task addedTask = super.addFromStorage(element);
+        this.notifyAdded(addedTask);
+        return addedTask;
+    }
+
+    @Override
+    public Task remove(int index) throws DataReadWriteException, InvalidIndexException {
+        Task removedTask = super.remove(index);
+        this.notifyRemoved(removedTask);
+        return removedTask;
+    }
+
+    @Override
+    public Task update(int index, boolean value) throws DataReadWriteException, InvalidIndexException {
+        Task taskToUpdate = this.get(index);
+        this.notifyRemoved(taskToUpdate);
+        try {
+            return super.update(index, value);
+        } finally {
+            if (this.isInList(taskToUpdate)) {
+                this.notifyAdded(taskToUpdate);
+            }
+        }
+    }
+
+    @Override
+    public void rollback() {
+        for (Task task : list) {
+            this.notifyRemoved(task);
+        }
+        super.rollback();
+        for (Task task : list) {
+            this.notifyAdded(task);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Task task : list) {
+            this.notifyRemoved(task);
+        }
+        super.clear();
+    }
+
+    /**
+     * Checks whether a task is still in the list, as saving the list may have archived it.
+     */
+    private boolean isInList(Task task) {
+        for (Task listedTask : list) {
+            if (listedTask == task) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void notifyAdded(Task task) {
+        if (listener != null) {
+            listener.taskAdded(this.getParentCode(), task);
+        }
+    }
+
+    private void notifyRemoved(Task task) {
+        if (listener != null) {
+            listener.taskRemoved(this.getParentCode(), task);
+        }
     }
 
     /**
@@ -95,7 +196,7 @@ public class TaskList extends SpinBoxList<Task> {
     }
 
     /**
-     * Populates data into the task list from the list's localStorage.
+     * Populates data into the task list from the list's localStorage, without writing to storage.
      * @throws DataReadWriteException loadData fail due to I/O Error..
      * @throws CorruptedDataException Thrown when a user manually edits the .txt file incorrectly.
      */
@@ -103,68 +204,124 @@ public class TaskList extends SpinBoxList<Task> {
     public void loadData() throws DataReadWriteException, CorruptedDataException {
         LOGGER.entering(getClass().getName(), "loadData");
 
-        List<String> savedData = localStorage.loadData();
-
+        List<String> savedData = this.loadStoredLines();
         for (String datum : savedData) {
-            String[] arguments = datum.split(DELIMITER_FILTER);
-            switch (arguments[0]) {
-            case "T":
-                Todo todo = new Todo();
-                todo.fromStoredString(datum);
-                this.addFromStorage(todo);
-                break;
-            case "D":
-                Deadline deadline = new Deadline();
-                deadline.fromStoredString(datum);
-                this.addFromStorage(deadline);
-                break;
-            case "E":
-                Event event = new Event();
-                event.fromStoredString(datum);
-                this.addFromStorage(event);
-                break;
-            case "EXAM":
-                Exam exam = new Exam();
-                exam.fromStoredString(datum);
-                this.addFromStorage(exam);
-                break;
-            case "LAB":
-                Lab lab = new Lab();
-                lab.fromStoredString(datum);
-                this.addFromStorage(lab);
-                break;
-            case "LEC":
-                Lecture lecture = new Lecture();
-                lecture.fromStoredString(datum);
-                this.addFromStorage(lecture);
-                break;
-            case "TUT":
-                Tutorial tutorial = new Tutorial();
-                tutorial.fromStoredString(datum);
-                this.addFromStorage(tutorial);
-                break;
-            default:
-                LOGGER.severe(LOG_CORRUPTED);
-                throw new CorruptedDataException();
-            }
+            this.addFromStorage(parseTask(datum));
         }
 
         LOGGER.fine(LOG_LOAD_DATA);
         LOGGER.exiting(getClass().getName(), "loadData");
     }
 
+    private static Task parseTask(String datum) throws CorruptedDataException {
+        String[] arguments = datum.split(DELIMITER_FILTER);
+        switch (arguments[0]) {
+        case "T":
+            Todo todo = new Todo();
+            todo.fromStoredString(datum);
+            return todo;
+        case "D":
+            Deadline deadline = new Deadline();
+            deadline.fromStoredString(datum);
+            return deadline;
+        case "E":
+            Event event = new Event();
+            event.fromStoredString(datum);
+            return event;
+        case "EXAM":
+            Exam exam = new Exam();
+            exam.fromStoredString(datum);
+            return exam;
+        case "LAB":
+            Lab lab = new Lab();
+            lab.fromStoredString(datum);
+            return lab;
+        case "LEC":
+            Lecture lecture = new Lecture();
+            lecture.fromStoredString(datum);
+            return lecture;
+        case "TUT":
+            Tutorial tutorial = new Tutorial();
+            tutorial.fromStoredString(datum);
+            return tutorial;
+        default:
+            LOGGER.severe(LOG_CORRUPTED);
+            throw new CorruptedDataException();
+        }
+    }
+
     /**
-     * Saves the current task list data into the list's localStorage.
+     * Checks whether a task is done and over before the cutoff. Todos have no date and recurring tasks keep
+     * occurring, so neither is ever archived.
+     */
+    private static boolean isArchivable(Task task, DateTime archiveCutoff) {
+        if (!task.getDone() || !task.isSchedulable()) {
+            return false;
+        }
+        Schedulable schedulable = (Schedulable) task;
+        DateTime lastDate = schedulable.getEndDate() == null ? schedulable.getStartDate() : schedulable.getEndDate();
+        return !schedulable.isRecurring() && lastDate.before(archiveCutoff);
+    }
+
+    private void archive(List<Task> tasksToArchive) throws DataReadWriteException {
+        List<String> dataToArchive = new ArrayList<>();
+        for (Task task : tasksToArchive) {
+            dataToArchive.add(task.storeString());
+        }
+        dataToArchive.removeAll(archiveStorage.loadData());
+        if (!dataToArchive.isEmpty()) {
+            archiveStorage.appendData(dataToArchive);
+        }
+        for (Task task : tasksToArchive) {
+            this.removeWithoutSaving(task);
+            this.notifyRemoved(task);
+        }
+        LOGGER.info(tasksToArchive.size() + LOG_ARCHIVED);
+    }
+
+    /**
+     * Loads the archived tasks of the module from its archive, which is only read when asked for.
+     * @return The archived tasks, sorted like the task list.
+     * @throws DataReadWriteException The archive cannot be read due to I/O Error.
+     * @throws CorruptedDataException Thrown when a user manually edits the archive incorrectly.
+     */
+    public List<Task> getArchivedTasks() throws DataReadWriteException, CorruptedDataException {
+        LOGGER.entering(getClass().getName(), "getArchivedTasks");
+        List<Task> archivedTasks = new ArrayList<>();
+        for (String datum : archiveStorage.loadData()) {
+            archivedTasks.add(parseTask(datum));
+        }
+        archivedTasks.sort(new TaskComparator());
+        LOGGER.exiting(getClass().getName(), "getArchivedTasks");
+        return archivedTasks;
+    }
+
+    /**
+     * Saves the current task list data into the list's localStorage. Completed tasks whose last date is older
+     * than the archive age, 30 days unless the spinbox.archiveAfterDays property says otherwise, are moved out
+     * of the list into the module's archive instead. The archive is written first and tasks already in it are
+     * not appended again, so a save that fails in between neither loses nor duplicates a task.
      * @throws DataReadWriteException saveData fail due to I/O Error.
      */
     @Override
     public void saveData() throws DataReadWriteException {
         LOGGER.entering(getClass().getName(), "saveData");
         List<String> dataToSave = new ArrayList<>();
+        List<Task> tasksToArchive = new ArrayList<>();
+        DateTime archiveCutoff = new DateTime(new Date(System.currentTimeMillis()
+                - TimeUnit.DAYS.toMillis(ARCHIVE_AGE_DAYS)));
         for (Task task: this.getList()) {
-            dataToSave.add(task.storeString());
+            if (isArchivable(task, archiveCutoff)) {
+                tasksToArchive.add(task);
+            } else {
+                dataToSave.add(task.storeString());
+            }
+        }
+
+        if (!tasksToArchive.isEmpty()) {
+            this.archive(tasksToArchive);
         }
-        localStorage.writeData(dataToSave);
+        this.writeStoredLines(dataToSave);
         LOGGER.fine(LOG_SAVE_DATA);
         LOGGER.exiting(getClass().getName(), "saveData");
     }
@@ -178,7 +335,17 @@ public class TaskList extends SpinBoxList<Task> {
         LOGGER.entering(getClass().getName(), "viewList");
         LOGGER.fine(LOG_VIEW_LIST);
         LOGGER.exiting(getClass().getName(), "viewList");
-        return outputNumberedListWithHeader(VIEW_TASK_LIST_HEADER, this.getList());
+        return outputIdentifiedListWithHeader(VIEW_TASK_LIST_HEADER, this.getList());
+    }
+
+    /**
+     * Gives the list of archived tasks in string format.
+     * @return Returns list of archived tasks that have been converted to string format.
+     * @throws DataReadWriteException The archive cannot be read due to I/O Error.
+     * @throws CorruptedDataException Thrown when a user manually edits the archive incorrectly.
+     */
+    public List<String> viewArchive() throws DataReadWriteException, CorruptedDataException {
+        return outputNumberedListWithHeader(VIEW_ARCHIVE_HEADER, this.getArchivedTasks());
     }
 
     /**
@@ -189,17 +356,36 @@ public class TaskList extends SpinBoxList<Task> {
     @Override
     public List<String> containsKeyword(String keyword) {
         LOGGER.entering(getClass().getName(), "containsKeyword");
+        List<Task> contains = filterByKeyword(this.getList(), keyword);
+        LOGGER.fine(LOG_CONTAINS_KEYWORD);
+        LOGGER.exiting(getClass().getName(), "containsKeyword");
+        return outputNumberedListWithHeader(TASKS_CONTAIN + keyword, contains);
+    }
+
+    /**
+     * Check the archive for tasks with names that contain keyword.
+     * @param keyword Keyword to be searched.
+     * @return  A list of strings containing the the string form of archived tasks that contain keyword.
+     * @throws DataReadWriteException The archive cannot be read due to I/O Error.
+     * @throws CorruptedDataException Thrown when a user manually edits the archive incorrectly.
+     */
+    public List<String> archiveContainsKeyword(String keyword) throws DataReadWriteException,
+            CorruptedDataException {
+        LOGGER.entering(getClass().getName(), "archiveContainsKeyword");
+        List<Task> contains = filterByKeyword(this.getArchivedTasks(), keyword);
+        LOGGER.fine(LOG_CONTAINS_KEYWORD);
+        LOGGER.exiting(getClass().getName(), "archiveContainsKeyword");
+        return outputNumberedListWithHeader(ARCHIVED_TASKS_CONTAIN + keyword, contains);
+    }
+
+    private static List<Task> filterByKeyword(List<Task> tasks, String keyword) {
         List<Task> contains = new ArrayList<>();
-        for (Task task : this.getList()) {
+        for (Task task : tasks) {
             if (task.getName().toLowerCase().contains(keyword.toLowerCase())) {
                 contains.add(task);
             }
         }
-
         contains.sort(new TaskComparator());
-
-        LOGGER.fine(LOG_CONTAINS_KEYWORD);
-        LOGGER.exiting(getClass().getName(), "containsKeyword");
-        return outputNumberedListWithHeader(TASKS_CONTAIN + keyword, contains);
+        return contains;
     }
 }
@@ -0,0 +1,23 @@
+package spinbox.containers.lists;
+
+import spinbox.entities.items.tasks.Task;
+
+/**
+ * Receives notifications when tasks enter or leave a TaskList, or are about to change in a way that affects
+ * their ordering.
+ */
+public interface TaskListListener {
+    /**
+     * Called after a task has been added to a task list, or after an existing task has been modified.
+     * @param moduleCode The module code of the task list.
+     * @param task The task that was added or modified.
+     */
+    void taskAdded(String moduleCode, Task task);
+
+    /**
+     * Called after a task has been removed from a task list, or just before an existing task is modified.
+     * @param moduleCode The module code of the task list.
+     * @param task The task that was removed or is about to be modified.
+     */
+    void taskRemoved(String moduleCode, Task task);
+}
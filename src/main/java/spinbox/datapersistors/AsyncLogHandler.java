@@ -0,0 +1,240 @@
+package spinbox.datapersistors;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Log handler that hands records to a background thread through a bounded ring buffer, so the thread that logs
+ * never waits on formatting or disk I/O. When the buffer is full, records are dropped and counted instead of
+ * blocking. The log file is rotated once it grows past a size limit.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long DEFAULT_MAX_FILE_BYTES = 1024 * 1024;
+    private static final int DEFAULT_FILE_COUNT = 3;
+    private static final long DRAIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final String THREAD_NAME = "log-writer";
+    private static final String ROTATED_SUFFIX = ".";
+    private static final String DROPPED_RECORDS = " log records were dropped because the log buffer was full.";
+
+    private final File logFile;
+    private final long maxFileBytes;
+    private final int fileCount;
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int mask;
+    private final AtomicLong tail;
+    private final AtomicLong droppedCount;
+    private final Thread writerThread;
+    private volatile long head;
+    private volatile boolean isClosed;
+    private long reportedDroppedCount;
+    private OutputStream output;
+    private long fileBytes;
+
+    /**
+     * Constructor for a handler appending to a log file, with a buffer of 1024 records and rotation at 1 MB
+     * over 3 files.
+     * @param fileLocation relative path of the log file.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public AsyncLogHandler(String fileLocation) throws IOException {
+        this(fileLocation, DEFAULT_CAPACITY, DEFAULT_MAX_FILE_BYTES, DEFAULT_FILE_COUNT);
+    }
+
+    /**
+     * Constructor for a handler appending to a log file.
+     * @param fileLocation relative path of the log file.
+     * @param capacity The number of records the buffer can hold, rounded up to a power of two.
+     * @param maxFileBytes The size past which the log file is rotated.
+     * @param fileCount The number of log files kept, including the current one.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public AsyncLogHandler(String fileLocation, int capacity, long maxFileBytes, int fileCount) throws IOException {
+        int roundedCapacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.logFile = new File(fileLocation);
+        this.maxFileBytes = maxFileBytes;
+        this.fileCount = Math.max(1, fileCount);
+        this.buffer = new AtomicReferenceArray<>(roundedCapacity);
+        this.mask = roundedCapacity - 1;
+        this.tail = new AtomicLong();
+        this.droppedCount = new AtomicLong();
+        this.setFormatter(new SimpleFormatter());
+        this.openLogFile();
+
+        writerThread = new Thread(this::drain, THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a record for the writer thread, or drops it if the buffer is full. Never blocks.
+     * @param record The record to log.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !this.isLoggable(record)) {
+            return;
+        }
+        // The source is inferred from the stack of the logging thread, so it has to be filled in here.
+        record.getSourceClassName();
+
+        while (true) {
+            long position = tail.get();
+            if (position - head >= buffer.length()) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                buffer.set((int) position & mask, record);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Writes out the records still in the buffer, then stops the writer thread and closes the log file.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drain() {
+        while (true) {
+            boolean wasClosed = isClosed;
+            this.writeBufferedRecords();
+            this.reportDroppedRecords();
+            this.flushLogFile();
+            if (wasClosed && head == tail.get()) {
+                break;
+            }
+            LockSupport.parkNanos(this, DRAIN_INTERVAL_NANOS);
+        }
+        this.closeLogFile();
+    }
+
+    private void writeBufferedRecords() {
+        LogRecord record = buffer.get((int) head & mask);
+        while (record != null) {
+            buffer.set((int) head & mask, null);
+            head = head + 1;
+            try {
+                this.write(this.getFormatter().format(record));
+            } catch (RuntimeException e) {
+                this.reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            }
+            record = buffer.get((int) head & mask);
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            this.write((dropped - reportedDroppedCount) + DROPPED_RECORDS + System.lineSeparator());
+            reportedDroppedCount = dropped;
+        }
+    }
+
+    private void write(String text) {
+        if (output == null) {
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (fileBytes > 0 && fileBytes + bytes.length > maxFileBytes) {
+                this.rotate();
+            }
+            output.write(bytes);
+            fileBytes += bytes.length;
+        } catch (IOException e) {
+            this.reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private void rotate() throws IOException {
+        output.close();
+        output = null;
+        File oldest = this.getRotatedFile(fileCount - 1);
+        if (fileCount > 1 && oldest.exists() && !oldest.delete()) {
+            throw new IOException("Cannot delete " + oldest.getPath());
+        }
+        for (int generation = fileCount - 2; generation >= 1; generation--) {
+            File rotatedFile = this.getRotatedFile(generation);
+            if (rotatedFile.exists()) {
+                rotatedFile.renameTo(this.getRotatedFile(generation + 1));
+            }
+        }
+        if (fileCount > 1) {
+            logFile.renameTo(this.getRotatedFile(1));
+        } else {
+            logFile.delete();
+        }
+        this.openLogFile();
+    }
+
+    private File getRotatedFile(int generation) {
+        return new File(logFile.getPath() + ROTATED_SUFFIX + generation);
+    }
+
+    private void openLogFile() throws IOException {
+        File directory = logFile.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            directory.mkdirs();
+        }
+        output = new BufferedOutputStream(new FileOutputStream(logFile, true));
+        fileBytes = logFile.length();
+    }
+
+    private void flushLogFile() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.flush();
+        } catch (IOException e) {
+            this.reportError(null, e, ErrorManager.FLUSH_FAILURE);
+        }
+    }
+
+    private void closeLogFile() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException e) {
+            this.reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+        output = null;
+    }
+}
@@ -11,6 +11,8 @@ import java.util.logging.Logger;
 
 public abstract class FileDataWriter {
     protected java.io.File spinBoxFile;
+    protected boolean isDirectoryCreated;
+    protected boolean isFileCreated;
     private static final Logger LOGGER = Logger.getLogger(FileDataWriter.class.getName());
     private static final String LOG_DIRECTORY_FILE_BOOLEAN = "Created:-> directory, file: ";
     private static final String LOG_ERROR_IO_CREATION = "Error creating file/directory, storage error propagated "
@@ -26,9 +28,9 @@ public abstract class FileDataWriter {
         LOGGER.setLevel(Level.WARNING);
         try {
             spinBoxFile = new File(fileLocation);
-            boolean directoryMade = spinBoxFile.getParentFile().mkdir();
-            boolean fileCreated = spinBoxFile.createNewFile();
-            LOGGER.info(LOG_DIRECTORY_FILE_BOOLEAN + directoryMade + " " + fileCreated + " " + fileLocation);
+            isDirectoryCreated = spinBoxFile.getParentFile().mkdir();
+            isFileCreated = spinBoxFile.createNewFile();
+            LOGGER.info(LOG_DIRECTORY_FILE_BOOLEAN + isDirectoryCreated + " " + isFileCreated + " " + fileLocation);
         } catch (IOException e) {
             LOGGER.warning(LOG_ERROR_IO_CREATION + fileLocation);
             throw new FileCreationException(e.getMessage());
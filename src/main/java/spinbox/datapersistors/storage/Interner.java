@@ -0,0 +1,35 @@
+package spinbox.datapersistors.storage;
+
+import spinbox.DateTime;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A table of canonical instances of equal immutable values read from storage, so that items loaded with the same
+ * module code, name or dates share one instance instead of holding a copy each. Entries are only weakly held and
+ * disappear once no item uses them.
+ * @param <T> The type of value interned.
+ */
+public class Interner<T> {
+    public static final Interner<String> STRINGS = new Interner<>();
+    public static final Interner<DateTime> DATE_TIMES = new Interner<>();
+
+    private final Map<T, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to a value, making the value canonical if there is none yet.
+     * @param value The value to intern.
+     * @return The canonical instance equal to the value.
+     */
+    public synchronized T intern(T value) {
+        WeakReference<T> reference = canonicalValues.get(value);
+        T canonicalValue = reference == null ? null : reference.get();
+        if (canonicalValue == null) {
+            canonicalValues.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonicalValue;
+    }
+}
@@ -4,13 +4,16 @@ import spinbox.datapersistors.FileDataWriter;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.FileCreationException;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,6 +23,12 @@ public class Storage extends FileDataWriter {
             + "upwards. Filepath: ";
     private static final String LOG_READ = "Reading from : ";
     private static final String LOG_WRITE = "Writing to : ";
+    private static final String LOG_DEFER_WRITES = "Deferring writes.";
+    private static final String LOG_COMMIT_WRITES = "Committed deferred writes to files: ";
+    private static final String LOG_DISCARD_WRITES = "Discarded deferred writes.";
+
+    private static Map<File, List<String>> deferredWrites;
+    private static List<File> createdWhileDeferring;
 
     /**
      * This constructor takes in a path, creating the file and/or folder as needed.
@@ -31,61 +40,187 @@ public class Storage extends FileDataWriter {
         LOGGER.setUseParentHandlers(true);
         LOGGER.setLevel(Level.WARNING);
         LOGGER.entering(getClass().getName(), "Constructor");
+        synchronized (Storage.class) {
+            if (deferredWrites != null) {
+                if (isDirectoryCreated) {
+                    createdWhileDeferring.add(spinBoxFile.getParentFile());
+                }
+                if (isFileCreated) {
+                    createdWhileDeferring.add(spinBoxFile);
+                }
+            }
+        }
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
 
     /**
-     * Retrieves lines of text from within the text file.
+     * Retrieves lines of text from within the text file, or the lines last written to it if writes are deferred.
      * @return A list containing Strings of data retrieved from the text file.
      * @throws DataReadWriteException An exception is thrown for I/O errors.
      */
     public List<String> loadData() throws DataReadWriteException {
         LOGGER.entering(getClass().getName(), "loadData");
-        assert spinBoxFile.exists();
-        ArrayList<String> lines = new ArrayList<>();
-        try {
-            String currentLine;
-            BufferedReader inputStream = new BufferedReader(new FileReader(spinBoxFile));
-            while ((currentLine = inputStream.readLine()) != null) {
-                LOGGER.fine(LOG_READ + spinBoxFile.getPath() + " : " + currentLine);
-                lines.add(currentLine);
+        synchronized (Storage.class) {
+            if (deferredWrites != null && deferredWrites.containsKey(spinBoxFile)) {
+                List<String> deferredLines = deferredWrites.get(spinBoxFile);
+                LOGGER.exiting(getClass().getName(), "loadData");
+                return deferredLines == null ? new ArrayList<>() : new ArrayList<>(deferredLines);
             }
-            inputStream.close();
-        } catch (IOException e) {
-            LOGGER.warning(LOG_ERROR_IO_READ_WRITE + spinBoxFile.getPath());
-            throw new DataReadWriteException();
         }
+        assert spinBoxFile.exists();
+        List<String> lines = readLines(spinBoxFile);
         LOGGER.exiting(getClass().getName(), "loadData");
         return lines;
     }
 
     /**
-     * Saves lines of text to a text file at the path specified.
+     * Saves lines of text to a text file at the path specified, or keeps them until the deferred writes are
+     * committed.
      * @param lines List of Strings to be saved line by line to the text file.
      * @throws DataReadWriteException An exception is thrown for I/O errors.
      */
     @Override
     public void writeData(List<String> lines) throws DataReadWriteException {
         LOGGER.entering(getClass().getName(), "saveData");
+        synchronized (Storage.class) {
+            if (deferredWrites != null) {
+                deferredWrites.put(spinBoxFile, new ArrayList<>(lines));
+                LOGGER.exiting(getClass().getName(), "saveData");
+                return;
+            }
+        }
+        assert spinBoxFile.exists();
+        writeLines(spinBoxFile, lines, false);
+        LOGGER.exiting(getClass().getName(), "saveData");
+    }
+
+    /**
+     * Adds lines of text to the end of the text file, leaving the lines already in it untouched.
+     * @param lines List of Strings to be appended line by line to the text file.
+     * @throws DataReadWriteException An exception is thrown for I/O errors.
+     */
+    public void appendData(List<String> lines) throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "appendData");
+        synchronized (Storage.class) {
+            if (deferredWrites != null) {
+                List<String> deferredLines = this.loadData();
+                deferredLines.addAll(lines);
+                deferredWrites.put(spinBoxFile, deferredLines);
+                LOGGER.exiting(getClass().getName(), "appendData");
+                return;
+            }
+        }
         assert spinBoxFile.exists();
+        writeLines(spinBoxFile, lines, true);
+        LOGGER.exiting(getClass().getName(), "appendData");
+    }
+
+    /**
+     * Deletes a file or empty directory of stored data, or marks it for deletion if writes are deferred.
+     * @param fileLocation relative path of the file or directory.
+     */
+    public static synchronized void delete(String fileLocation) {
+        File file = new File(fileLocation);
+        if (deferredWrites != null) {
+            deferredWrites.put(file, null);
+        } else {
+            file.delete();
+        }
+    }
+
+    /**
+     * Starts deferring writes. Until they are committed or discarded, every write or deletion of stored data is
+     * only kept in memory, where later loads still see it. The files and directories created in the meantime
+     * are remembered, so that discarding the writes removes them again.
+     */
+    public static synchronized void deferWrites() {
+        LOGGER.fine(LOG_DEFER_WRITES);
+        if (deferredWrites == null) {
+            deferredWrites = new LinkedHashMap<>();
+            createdWhileDeferring = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Checks whether writes are currently deferred.
+     * @return True if writes are only kept in memory until they are committed or discarded.
+     */
+    public static synchronized boolean isDeferringWrites() {
+        return deferredWrites != null;
+    }
+
+    /**
+     * Stops deferring writes and applies the deferred ones, writing each changed file once.
+     * @throws DataReadWriteException An exception is thrown for I/O errors.
+     */
+    public static synchronized void commitDeferredWrites() throws DataReadWriteException {
+        if (deferredWrites == null) {
+            return;
+        }
+        Map<File, List<String>> writes = deferredWrites;
+        deferredWrites = null;
+        createdWhileDeferring = null;
+        for (Map.Entry<File, List<String>> write : writes.entrySet()) {
+            if (write.getValue() == null) {
+                write.getKey().delete();
+            } else {
+                writeLines(write.getKey(), write.getValue(), false);
+            }
+        }
+        LOGGER.fine(LOG_COMMIT_WRITES + writes.size());
+    }
+
+    /**
+     * Stops deferring writes and drops the deferred ones, deleting the files and directories created since writes
+     * were deferred, leaving the stored data as it was before.
+     */
+    public static synchronized void discardDeferredWrites() {
+        LOGGER.fine(LOG_DISCARD_WRITES);
+        if (createdWhileDeferring != null) {
+            for (int i = createdWhileDeferring.size() - 1; i >= 0; i--) {
+                createdWhileDeferring.get(i).delete();
+            }
+        }
+        deferredWrites = null;
+        createdWhileDeferring = null;
+    }
+
+    private static List<String> readLines(File file) throws DataReadWriteException {
+        ArrayList<String> lines = new ArrayList<>();
         try {
-            BufferedWriter outputStream = new BufferedWriter(new FileWriter(spinBoxFile));
+            String currentLine;
+            BufferedReader inputStream = new BufferedReader(new FileReader(file));
+            while ((currentLine = inputStream.readLine()) != null) {
+                LOGGER.fine(LOG_READ + file.getPath() + " : " + currentLine);
+                lines.add(currentLine);
+            }
+            inputStream.close();
+        } catch (IOException e) {
+            LOGGER.warning(LOG_ERROR_IO_READ_WRITE + file.getPath());
+            throw new DataReadWriteException();
+        }
+        return lines;
+    }
+
+    private static void writeLines(File file, List<String> lines, boolean isAppending)
+            throws DataReadWriteException {
+        try {
+            BufferedWriter outputStream = new BufferedWriter(new FileWriter(file, isAppending));
             for (String line : lines) {
-                writeStorageLine(line, outputStream);
+                writeStorageLine(file, line, outputStream);
             }
             outputStream.close();
         } catch (IOException e) {
-            LOGGER.warning(LOG_ERROR_IO_READ_WRITE + spinBoxFile.getPath());
+            LOGGER.warning(LOG_ERROR_IO_READ_WRITE + file.getPath());
             throw new DataReadWriteException();
         }
-        LOGGER.exiting(getClass().getName(), "saveData");
     }
 
-    private void writeStorageLine(String line, BufferedWriter outputStream) throws IOException {
-        LOGGER.entering(getClass().getName(), "writeStorageLine");
-        LOGGER.fine(LOG_WRITE + spinBoxFile.getPath() + " : " + line);
+    private static void writeStorageLine(File file, String line, BufferedWriter outputStream) throws IOException {
+        LOGGER.entering(Storage.class.getName(), "writeStorageLine");
+        LOGGER.fine(LOG_WRITE + file.getPath() + " : " + line);
         outputStream.write(line);
         outputStream.newLine();
-        LOGGER.exiting(getClass().getName(), "writeStorageLine");
+        LOGGER.exiting(Storage.class.getName(), "writeStorageLine");
     }
 }
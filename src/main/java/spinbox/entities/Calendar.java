@@ -8,6 +8,7 @@ import spinbox.exceptions.DateFormatException;
 import spinbox.gui.MainWindow;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -72,29 +73,69 @@ public class Calendar {
     }
 
     /**
-     * Iterates through the TaskList to find out
-     * which task overlaps with the current month.
+     * Allocates the tasks that overlap with the current month to each day they overlap with. The boundaries
+     * of every day are computed once, after which each task is placed directly into the range of days between
+     * its start and end, instead of every task being tested against every day. Recurring tasks are only
+     * expanded into the occurrences within the current month.
      * @param taskList TaskList that contains all tasks
      * @return tasks contained inside the current month
      */
     public List<Pair<Integer, List<Pair<String, Task>>>> taskInCalendarByDayInMonth(List<Pair<String, Task>> taskList) {
-        DateTime currentDate = startDate;
-        List<Pair<String, Task>> tempTaskList = null;
-        List<Pair<String, Task>> relevantTaskList = tasksInCalendar(taskList);
-        List<Pair<Integer, List<Pair<String, Task>>>> allocatedTaskList = new ArrayList<>();
-        for (int dateCount = 0; dateCount < endDate.getDayOfMonth(); dateCount++) {
-            tempTaskList = new ArrayList<>();
-            for (Pair item : relevantTaskList) {
-                Task task = (Task) item.getValue();
-                String moduleCode = (String) item.getKey();
-                Schedulable schedulable = (Schedulable) task;
-                if (schedulable.isOverlapping(currentDate.getStartOfDay(), currentDate.getEndOfDay())) {
-                    tempTaskList.add(new Pair<>(moduleCode, task));
+        int daysInMonth = endDate.getDayOfMonth();
+        long[] startOfDays = new long[daysInMonth];
+        long[] endOfDays = new long[daysInMonth];
+        java.util.Calendar calendar = java.util.Calendar.getInstance();
+        calendar.setTime(startDate.getStartOfDay().getDateTime());
+        for (int day = 0; day < daysInMonth; day++) {
+            startOfDays[day] = calendar.getTimeInMillis();
+            calendar.add(java.util.Calendar.DATE, 1);
+            endOfDays[day] = calendar.getTimeInMillis() - 1;
+        }
+
+        List<List<Pair<String, Task>>> tasksByDay = new ArrayList<>();
+        for (int day = 0; day < daysInMonth; day++) {
+            tasksByDay.add(new ArrayList<>());
+        }
+        DateTime endOfMonth = new DateTime(new Date(endOfDays[daysInMonth - 1] + 1));
+        for (Pair<String, Task> item : tasksInCalendar(taskList)) {
+            Schedulable schedulable = (Schedulable) item.getValue();
+            int lastDayAllocated = -1;
+            for (Pair<DateTime, DateTime> occurrence : schedulable.getOccurrences(startDate, endOfMonth)) {
+                long taskStart = occurrence.getKey().getDateTime().getTime();
+                long taskEnd = occurrence.getValue().getDateTime().getTime();
+                int firstDay = Math.max(countAtMost(endOfDays, taskStart), lastDayAllocated + 1);
+                int lastDay = countAtMost(startOfDays, taskEnd - 1) - 1;
+                for (int day = firstDay; day <= lastDay; day++) {
+                    tasksByDay.get(day).add(item);
                 }
+                lastDayAllocated = Math.max(lastDayAllocated, lastDay);
             }
-            allocatedTaskList.add(new Pair<>(dateCount + 1, tempTaskList));
-            currentDate = currentDate.getNextDay();
+        }
+
+        List<Pair<Integer, List<Pair<String, Task>>>> allocatedTaskList = new ArrayList<>();
+        for (int day = 0; day < daysInMonth; day++) {
+            allocatedTaskList.add(new Pair<>(day + 1, tasksByDay.get(day)));
         }
         return allocatedTaskList;
     }
-}
\ No newline at end of file
+
+    /**
+     * Counts the values in a sorted array that are at most the given value, using binary search.
+     * @param sortedValues Array of values in ascending order.
+     * @param value The value to compare against.
+     * @return The number of values that are less than or equal to value.
+     */
+    private static int countAtMost(long[] sortedValues, long value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedValues[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,127 @@
+package spinbox.entities;
+
+public class GradeProjection {
+    private static final double FULL_PERCENTAGE = 100.0;
+
+    private final double[] weights;
+    private final double[] weightedScores;
+    private final boolean[] scoresKnown;
+    private final double attainedScore;
+    private final double remainingWeight;
+
+    /**
+     * Constructor for a projection over the graded components of a module. The arrays are indexed by the
+     * position of each component in its GradeList, and are expected not to change after construction.
+     * @param weights The weight of each graded component.
+     * @param weightedScores The weighted score of each graded component, ignored if its score is unknown.
+     * @param scoresKnown Whether the score of each graded component is known.
+     */
+    public GradeProjection(double[] weights, double[] weightedScores, boolean[] scoresKnown) {
+        assert weights.length == weightedScores.length && weights.length == scoresKnown.length;
+        this.weights = weights;
+        this.weightedScores = weightedScores;
+        this.scoresKnown = scoresKnown;
+
+        double attained = 0;
+        double remaining = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (scoresKnown[i]) {
+                attained += weightedScores[i];
+            } else {
+                remaining += weights[i];
+            }
+        }
+        this.attainedScore = attained;
+        this.remainingWeight = remaining;
+    }
+
+    /**
+     * Returns the overall percentage if no further marks are scored on the unscored components.
+     * @return The worst case overall percentage.
+     */
+    public double getWorstCase() {
+        return attainedScore;
+    }
+
+    /**
+     * Returns the overall percentage if full marks are scored on every unscored component.
+     * @return The best case overall percentage.
+     */
+    public double getBestCase() {
+        return attainedScore + remainingWeight;
+    }
+
+    public double getRemainingWeight() {
+        return remainingWeight;
+    }
+
+    /**
+     * Checks if a target overall percentage can still be reached.
+     * @param target The target overall percentage.
+     * @return True if the best case reaches the target.
+     */
+    public boolean isAchievable(double target) {
+        return target <= this.getBestCase();
+    }
+
+    /**
+     * Checks if a target overall percentage has already been reached, regardless of the remaining components.
+     * @param target The target overall percentage.
+     * @return True if the worst case reaches the target.
+     */
+    public boolean isSecured(double target) {
+        return target <= this.getWorstCase();
+    }
+
+    /**
+     * Returns the minimum percentage needed on every unscored component to reach a target overall percentage.
+     * The result exceeds 100 if the target cannot be reached, and is 0 if it has already been reached.
+     * @param target The target overall percentage.
+     * @return The minimum percentage needed on each unscored component.
+     */
+    public double getRequiredPercentage(double target) {
+        if (this.isSecured(target)) {
+            return 0;
+        } else if (remainingWeight == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (target - attainedScore) / remainingWeight * FULL_PERCENTAGE;
+    }
+
+    /**
+     * Returns the minimum weighted score needed on each graded component to reach a target overall percentage.
+     * Components with known scores keep their weighted scores.
+     * @param target The target overall percentage.
+     * @return The weighted score needed on each graded component, indexed like the arrays of the projection.
+     */
+    public double[] getRequiredWeightedScores(double target) {
+        double requiredFraction = this.getRequiredPercentage(target) / FULL_PERCENTAGE;
+        double[] requiredScores = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            requiredScores[i] = scoresKnown[i] ? weightedScores[i] : weights[i] * requiredFraction;
+        }
+        return requiredScores;
+    }
+
+    /**
+     * Checks if the score of a graded component is known.
+     * @param index The position of the graded component in its GradeList.
+     * @return True if the score is known.
+     */
+    public boolean isScoreKnown(int index) {
+        return scoresKnown[index];
+    }
+
+    /**
+     * Returns the weight of a graded component.
+     * @param index The position of the graded component in its GradeList.
+     * @return The weight of the graded component.
+     */
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    public int size() {
+        return weights.length;
+    }
+}
@@ -0,0 +1,60 @@
+package spinbox.entities;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GradeSummary {
+    private static final String TWO_DP = "#.##";
+    private static final String TOTAL_WEIGHT = "Total weight of graded components: ";
+    private static final String WEIGHTED_SCORE = "Weighted score attained so far: ";
+    private static final String KNOWN_WEIGHT = "Weight of components with known scores: ";
+    private static final String REMAINING_WEIGHT = "Weight of components still to be scored: ";
+    private static final String PERCENT = "%";
+
+    private final double totalWeight;
+    private final double weightedScore;
+    private final double knownWeight;
+
+    /**
+     * Constructor for a snapshot of the graded components of a module.
+     * @param totalWeight The total weight of all graded components.
+     * @param weightedScore The sum of the weighted scores of graded components with known scores.
+     * @param knownWeight The total weight of graded components with known scores.
+     */
+    public GradeSummary(double totalWeight, double weightedScore, double knownWeight) {
+        this.totalWeight = totalWeight;
+        this.weightedScore = weightedScore;
+        this.knownWeight = knownWeight;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public double getWeightedScore() {
+        return weightedScore;
+    }
+
+    public double getKnownWeight() {
+        return knownWeight;
+    }
+
+    public double getRemainingWeight() {
+        return totalWeight - knownWeight;
+    }
+
+    /**
+     * Gives the summary as lines of text for output, one figure per line.
+     * @return List of strings describing the summary.
+     */
+    public List<String> toStringList() {
+        DecimalFormat decimalFormat = new DecimalFormat(TWO_DP);
+        List<String> output = new ArrayList<>();
+        output.add(TOTAL_WEIGHT + decimalFormat.format(totalWeight) + PERCENT);
+        output.add(WEIGHTED_SCORE + decimalFormat.format(weightedScore) + PERCENT);
+        output.add(KNOWN_WEIGHT + decimalFormat.format(knownWeight) + PERCENT);
+        output.add(REMAINING_WEIGHT + decimalFormat.format(this.getRemainingWeight()) + PERCENT);
+        return output;
+    }
+}
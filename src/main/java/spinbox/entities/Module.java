@@ -8,6 +8,7 @@ import spinbox.exceptions.FileCreationException;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
 import spinbox.containers.lists.TaskList;
+import spinbox.datapersistors.storage.Interner;
 import spinbox.datapersistors.storage.Storable;
 
 public class Module implements Storable {
@@ -67,15 +68,27 @@ public class Module implements Storable {
      */
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
+        this.fromStoredString(fromStorage, null);
+    }
+
+    /**
+     * Parses a string extracted from storage back into a Module object, loading only one of its lists. A module
+     * loaded this way must not be saved, as saving would overwrite the lists that were not loaded.
+     * @param fromStorage This String is provided directly from the localStorage instance.
+     * @param tab The tab of the list to load, "tasks", "files", "grades" or "notes", or null to load every list.
+     * @throws CorruptedDataException Thrown when a user manually edits the .txt file incorrectly such that
+     *     the data cannot be extracted or such a file is not located where expected, or is not available for RW.
+     */
+    public void fromStoredString(String fromStorage, String tab) throws CorruptedDataException {
         try {
             String[] components = fromStorage.split(DELIMITER_FILTER);
-            this.setModuleCode(components[0]);
-            this.setModuleName(components[1]);
+            this.setModuleCode(Interner.STRINGS.intern(components[0]));
+            this.setModuleName(Interner.STRINGS.intern(components[1]));
             this.files = new FileList(moduleCode);
             this.tasks = new TaskList(moduleCode);
             this.grades = new GradeList(moduleCode);
             this.notepad = new Notepad(moduleCode);
-            this.loadData();
+            this.loadData(tab);
         } catch (ArrayIndexOutOfBoundsException | FileCreationException
                 | DataReadWriteException | DateFormatException e) {
             throw new CorruptedDataException();
@@ -114,6 +127,14 @@ public class Module implements Storable {
         return grades;
     }
 
+    /**
+     * Get the summary of the module's graded components.
+     * @return GradeSummary of total, known and remaining weight, and weighted score attained.
+     */
+    public GradeSummary getGradeSummary() {
+        return grades.getSummary();
+    }
+
     /**
      * Get the TaskList.
      * @return TaskList instance.
@@ -142,6 +163,35 @@ public class Module implements Storable {
         this.notepad.loadData();
     }
 
+    /**
+     * Populates only the list shown in one tab of the module with pre-existing data.
+     * @param tab The tab of the list to load, "tasks", "files", "grades" or "notes", or null to load every list.
+     * @throws DataReadWriteException I/O error.
+     * @throws CorruptedDataException Data has been modified incorrectly within the .txt files.
+     */
+    public void loadData(String tab) throws DataReadWriteException, CorruptedDataException, DateFormatException {
+        if (tab == null) {
+            this.loadData();
+            return;
+        }
+        switch (tab) {
+        case "tasks":
+            this.tasks.loadData();
+            break;
+        case "files":
+            this.files.loadData();
+            break;
+        case "grades":
+            this.grades.loadData();
+            break;
+        case "notes":
+            this.notepad.loadData();
+            break;
+        default:
+            this.loadData();
+        }
+    }
+
     private void setModuleCode(String moduleCode) {
         this.moduleCode = moduleCode;
     }
@@ -1,11 +1,11 @@
 package spinbox.entities.items;
 
+import spinbox.datapersistors.storage.Interner;
 import spinbox.exceptions.CorruptedDataException;
 
 public class File extends Item {
     private static final String BRACKET_OPEN = "[";
     private static final String BRACKET_CLOSE = "] ";
-    private static final String DELIMITER_FILTER = " \\| ";
     private static final String DOWNLOADED = "DOWNLOADED";
     private static final String NOT_DOWNLOADED = "NOT DOWNLOADED";
 
@@ -32,21 +32,21 @@ public class File extends Item {
     }
 
     @Override
-    public String toString() {
+    protected String formatString() {
         return BRACKET_OPEN + this.getStatusText() + BRACKET_CLOSE + this.getName();
     }
 
     @Override
-    public String storeString() {
-        return super.storeString();
+    protected String formatStoreString() {
+        return super.formatStoreString() + this.storeIdString();
     }
 
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         try {
-            String[] components = fromStorage.split(DELIMITER_FILTER);
+            String[] components = this.splitStoredString(fromStorage);
             this.updateDone(Integer.parseInt(components[0]) == 1);
-            this.setName(components[1]);
+            this.setName(Interner.STRINGS.intern(components[1]));
         } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
             throw new CorruptedDataException();
         }
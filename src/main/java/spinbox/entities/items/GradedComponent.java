@@ -1,5 +1,6 @@
 package spinbox.entities.items;
 
+import spinbox.datapersistors.storage.Interner;
 import spinbox.exceptions.CorruptedDataException;
 import spinbox.exceptions.InputException;
 
@@ -17,7 +18,6 @@ public class GradedComponent extends Item {
     private static final String DIVIDE_BY_ZERO = "Maximum possible score should be non-zero";
     private static final String TWO_DP = "#.##";
     private static final String STORE_DELIMITER = " | ";
-    private static final String DELIMITER_FILTER = " \\| ";
     private static final String BRACKET_OPEN = "[";
     private static final String BRACKET_CLOSE = "] ";
     private static final String COMPLETED = "COMPLETED";
@@ -64,7 +64,7 @@ public class GradedComponent extends Item {
      * @return a String that is human-readable and contains data to be shown on the screen.
      */
     @Override
-    public String toString() {
+    protected String formatString() {
         return BRACKET_OPEN + this.getStatusText() + BRACKET_CLOSE + this.getName() + "\n"
                 + this.getWeightedScoreAsString() + "/" + Double.toString(this.getWeight());
     }
@@ -74,12 +74,13 @@ public class GradedComponent extends Item {
      * @return String version of GradedComponent, ready for storage.
      */
     @Override
-    public String storeString() {
+    protected String formatStoreString() {
         LOGGER.entering(getClass().getName(), "storeString");
         LOGGER.fine(LOG_TO_STORAGE + this.toString());
         LOGGER.exiting(getClass().getName(), "storeString");
-        return super.storeString() + STORE_DELIMITER + (this.isScoreKnown() ? 1 : 0)
-            + STORE_DELIMITER + Double.toString(this.weight) + STORE_DELIMITER + Double.toString(this.weightedScore);
+        return super.formatStoreString() + STORE_DELIMITER + (this.isScoreKnown() ? 1 : 0)
+            + STORE_DELIMITER + Double.toString(this.weight) + STORE_DELIMITER + Double.toString(this.weightedScore)
+            + this.storeIdString();
     }
 
     /**
@@ -91,9 +92,9 @@ public class GradedComponent extends Item {
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         LOGGER.entering(getClass().getName(), "fromStoredString");
         try {
-            String[] components = fromStorage.split(DELIMITER_FILTER);
+            String[] components = this.splitStoredString(fromStorage);
             this.updateDone(Integer.parseInt(components[0]) == 1);
-            this.setName(components[1]);
+            this.setName(Interner.STRINGS.intern(components[1]));
             this.setScoreKnown(Integer.parseInt(components[2]) == 1);
             this.setWeight(Double.parseDouble(components[3]));
             this.setWeightedScore(Double.parseDouble(components[4]));
@@ -166,20 +167,34 @@ public class GradedComponent extends Item {
         return weight;
     }
 
+    /**
+     * Returns the weighted score achieved by the user, which is zero until a score is entered.
+     * @return a double, stating the weighted score of the graded component.
+     */
+    public double getWeightedScore() {
+        return weightedScore;
+    }
+
+    /**
+     * Checks if a score has been entered for the graded component.
+     * @return True if the score is known.
+     */
+    public boolean isScoreKnown() {
+        return this.scoreKnown;
+    }
+
     private boolean checkDivideByZero(double maximumScore) {
         return (Double.compare(0.0, maximumScore) == 0);
     }
 
     private void setScoreKnownAsTrue() {
         this.scoreKnown = true;
+        this.invalidateStrings();
     }
 
     private void setScoreKnown(boolean scoreKnown) {
         this.scoreKnown = scoreKnown;
-    }
-
-    private boolean isScoreKnown() {
-        return this.scoreKnown;
+        this.invalidateStrings();
     }
 
     private void setComplete() {
@@ -189,10 +204,12 @@ public class GradedComponent extends Item {
 
     private void setWeight(double weight) {
         this.weight = weight;
+        this.invalidateStrings();
     }
 
     private void setWeightedScore(double weightedScore) {
         this.weightedScore = weightedScore;
+        this.invalidateStrings();
     }
 
     private double calculateWeightedScore(double yourScore, double maximumScore) {
@@ -5,6 +5,12 @@ import spinbox.datapersistors.storage.Storable;
 
 public abstract class Item implements Exportable, Storable {
     private static final String STORE_DELIMITER = " | ";
+    private static final String DELIMITER_FILTER = " \\| ";
+    private static final String ID_PREFIX = "#";
+    private static final String ID_FILTER = "#[0-9a-z]{1,5}";
+    private static final String STORE_ID_MARKER = "id:";
+    private static final int ID_RADIX = 36;
+    private static final int NO_ID = 0;
     private static final String BRACKET_OPEN = "[";
     private static final String BRACKET_CLOSE = "] ";
     private static final String DONE = "DONE";
@@ -12,6 +18,9 @@ public abstract class Item implements Exportable, Storable {
 
     private String name;
     private Boolean isDone;
+    private int id = NO_ID;
+    private String displayString;
+    private String storageString;
 
     protected Item(String name) {
         this.name = name;
@@ -28,6 +37,85 @@ public abstract class Item implements Exportable, Storable {
 
     protected void setName(String name) {
         this.name = name;
+        this.invalidateStrings();
+    }
+
+    /**
+     * Returns the stable identifier of this item, which does not change when its list is re-sorted.
+     * @return the identifier, or 0 if the item has not been added to a list yet.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+        this.invalidateStrings();
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns the compact form of the identifier used in storage and user input, e.g. #1a.
+     * @return the identifier prefixed with '#', or an empty String if the item has no identifier.
+     */
+    public String getIdString() {
+        return this.hasId() ? ID_PREFIX + Integer.toString(id, ID_RADIX) : "";
+    }
+
+    /**
+     * Checks whether a String is an item identifier reference such as #1a.
+     * @param reference the String to be checked.
+     * @return true if it is an identifier reference.
+     */
+    public static boolean isIdReference(String reference) {
+        return reference.matches(ID_FILTER);
+    }
+
+    /**
+     * Converts an identifier reference such as #1a back into its numerical identifier.
+     * @param reference the identifier reference.
+     * @return the numerical identifier.
+     * @throws NumberFormatException if the reference is not a valid identifier.
+     */
+    public static int parseIdReference(String reference) throws NumberFormatException {
+        if (!isIdReference(reference)) {
+            throw new NumberFormatException();
+        }
+        return Integer.parseInt(reference.substring(ID_PREFIX.length()), ID_RADIX);
+    }
+
+    /**
+     * Returns the identifier as the trailing field of a storage String, marked so that it cannot be mistaken
+     * for a name such as #hw1, e.g. id:#1a.
+     * @return the delimited identifier, or an empty String if the item has no identifier.
+     */
+    protected String storeIdString() {
+        return this.hasId() ? STORE_DELIMITER + STORE_ID_MARKER + this.getIdString() : "";
+    }
+
+    private static boolean isStoredId(String field) {
+        return field.startsWith(STORE_ID_MARKER) && isIdReference(field.substring(STORE_ID_MARKER.length()));
+    }
+
+    /**
+     * Splits a String from storage into its fields. If the last field is a marked identifier, it is removed
+     * from the returned fields and set as this item's identifier.
+     * @param fromStorage This String is provided directly from the localStorage instance.
+     * @return the fields of the String, without the identifier.
+     */
+    protected String[] splitStoredString(String fromStorage) {
+        String[] components = fromStorage.split(DELIMITER_FILTER);
+        int lastIndex = components.length - 1;
+        if (lastIndex > 0 && isStoredId(components[lastIndex])) {
+            this.setId(parseIdReference(components[lastIndex].substring(STORE_ID_MARKER.length())));
+            String[] componentsWithoutId = new String[lastIndex];
+            System.arraycopy(components, 0, componentsWithoutId, 0, lastIndex);
+            return componentsWithoutId;
+        }
+        return components;
     }
 
     public Boolean getDone() {
@@ -38,7 +126,19 @@ public abstract class Item implements Exportable, Storable {
         return (this.getDone() ? DONE : NOT_DONE);
     }
 
-    public String toString() {
+    /**
+     * Returns the String form of this item shown to the user, which is only formatted again after a change.
+     * @return the String form of this item.
+     */
+    @Override
+    public final String toString() {
+        if (displayString == null) {
+            displayString = this.formatString();
+        }
+        return displayString;
+    }
+
+    protected String formatString() {
         return BRACKET_OPEN + this.getStatusText() + BRACKET_CLOSE + this.getName();
     }
 
@@ -47,12 +147,34 @@ public abstract class Item implements Exportable, Storable {
         return this.toString();
     }
 
-    public String storeString() {
+    /**
+     * Returns the String form of this item written to storage, which is only formatted again after a change.
+     * @return the String form of this item for storage.
+     */
+    @Override
+    public final String storeString() {
+        if (storageString == null) {
+            storageString = this.formatStoreString();
+        }
+        return storageString;
+    }
+
+    protected String formatStoreString() {
         return (this.getDone() ? 1 : 0) + STORE_DELIMITER + this.getName();
     }
 
+    /**
+     * Discards the cached String forms of this item. Must be called by every method that changes a field shown
+     * in either form.
+     */
+    protected void invalidateStrings() {
+        displayString = null;
+        storageString = null;
+    }
+
     public void updateDone(Boolean done) {
         isDone = done;
+        this.invalidateStrings();
     }
 
     public void markDone() {
@@ -37,8 +37,8 @@ public class Deadline extends Schedulable {
     }
 
     @Override
-    public String storeString() {
-        return "D | " + super.storeString() + " | " + this.getStartDateString();
+    protected String formatStoreString() {
+        return "D | " + super.formatStoreString() + " | " + this.getStartDateString() + this.storeIdString();
     }
 
     @Override
@@ -52,8 +52,8 @@ public class Deadline extends Schedulable {
     }
 
     @Override
-    public String toString() {
-        return "[D]" + super.toString() + " (by: " + this.startDate + ")";
+    protected String formatString() {
+        return "[D]" + super.formatString() + " (by: " + this.startDate + ")";
     }
 
     /**
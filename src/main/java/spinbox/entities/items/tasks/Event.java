@@ -44,8 +44,9 @@ public class Event extends Schedulable {
     }
 
     @Override
-    public String storeString() {
-        return "E | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+    protected String formatStoreString() {
+        return "E | " + super.formatStoreString() + " | " + this.getStartDateString() + " | " + this.getEndDateString()
+                + this.storeRecurrenceString() + this.storeIdString();
     }
 
     @Override
@@ -59,8 +60,9 @@ public class Event extends Schedulable {
     }
 
     @Override
-    public String toString() {
-        return "[E]" + super.toString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString() + ")";
+    protected String formatString() {
+        return "[E]" + super.formatString() + " (at: " + this.getStartDateString() + " to "
+                + this.getEndDateString() + ")" + this.getRecurrenceString();
     }
 
     /**
@@ -78,6 +80,9 @@ public class Event extends Schedulable {
 
     @Override
     public Boolean isOverlapping(DateTime startTime, DateTime endTime) {
+        if (this.isRecurring()) {
+            return !this.getOccurrences(startTime, endTime).isEmpty();
+        }
         return startTime.before(endDate) && startDate.before(endTime);
     }
 }
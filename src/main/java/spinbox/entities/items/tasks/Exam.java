@@ -44,8 +44,9 @@ public class Exam extends Schedulable {
     }
 
     @Override
-    public String storeString() {
-        return "EXAM | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+    protected String formatStoreString() {
+        return "EXAM | " + super.formatStoreString() + " | " + this.getStartDateString() + " | "
+                + this.getEndDateString() + this.storeIdString();
     }
 
     @Override
@@ -59,8 +60,8 @@ public class Exam extends Schedulable {
     }
 
     @Override
-    public String toString() {
-        return "[EXAM]" + super.toString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString()
+    protected String formatString() {
+        return "[EXAM]" + super.formatString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString()
                 + ")";
     }
 
@@ -44,8 +44,9 @@ public class Lecture extends Schedulable {
     }
 
     @Override
-    public String storeString() {
-        return "LEC | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+    protected String formatStoreString() {
+        return "LEC | " + super.formatStoreString() + " | " + this.getStartDateString() + " | "
+                + this.getEndDateString() + this.storeRecurrenceString() + this.storeIdString();
     }
 
     @Override
@@ -59,9 +60,9 @@ public class Lecture extends Schedulable {
     }
 
     @Override
-    public String toString() {
-        return "[LEC]" + super.toString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString()
-                + ")";
+    protected String formatString() {
+        return "[LEC]" + super.formatString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString()
+                + ")" + this.getRecurrenceString();
     }
 
     /**
@@ -79,6 +80,9 @@ public class Lecture extends Schedulable {
 
     @Override
     public Boolean isOverlapping(DateTime startTime, DateTime endTime) {
+        if (this.isRecurring()) {
+            return !this.getOccurrences(startTime, endTime).isEmpty();
+        }
         return startTime.before(endDate) && startDate.before(endTime);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package spinbox.entities.items.tasks;
 
+import spinbox.datapersistors.storage.Interner;
 import spinbox.exceptions.CorruptedDataException;
 
 public abstract class NonSchedulable extends Task {
@@ -20,9 +21,9 @@ public abstract class NonSchedulable extends Task {
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         try {
-            String[] arguments = fromStorage.split(DELIMITER_FILTER);
+            String[] arguments = this.splitStoredString(fromStorage);
             int done = Integer.parseInt(arguments[1]);
-            String taskName = arguments[2];
+            String taskName = Interner.STRINGS.intern(arguments[2]);
             this.updateDone(done == 1);
             this.setName(taskName);
         } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
@@ -0,0 +1,155 @@
+package spinbox.entities.items.tasks;
+
+import javafx.util.Pair;
+import spinbox.DateTime;
+import spinbox.exceptions.DateFormatException;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A weekly recurrence rule of a schedulable task, stored once alongside its first occurrence. Occurrences are
+ * only expanded for the window that is asked for.
+ */
+public class Recurrence {
+    public static final String RULE_PREFIX = "weekly until: ";
+    private static final String EXCEPT = " except: ";
+    private static final String DATE_DELIMITER = ",";
+    private static final String DATE_FORMAT = "MM/dd/yyyy";
+    private static final String INVALID_RULE = "Format should be: weekly until: MM/dd/yyyy "
+            + "[except: MM/dd/yyyy,MM/dd/yyyy]";
+    private static final long WEEK = TimeUnit.DAYS.toMillis(7);
+
+    private final String untilDate;
+    private final Set<String> exceptionDates;
+    private final Date untilLimit;
+
+    /**
+     * Constructor for a weekly recurrence rule.
+     * @param untilDate The last date on which an occurrence may start, as MM/dd/yyyy.
+     * @param exceptionDates The dates, as MM/dd/yyyy, on which an occurrence is skipped. Dates written without
+     *     leading zeros, e.g. 1/5/2030, are kept in the padded form so that they match the occurrences.
+     * @throws DateFormatException If any of the dates is invalid.
+     */
+    public Recurrence(String untilDate, List<String> exceptionDates) throws DateFormatException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(parseDate(untilDate));
+        this.untilDate = dateFormat.format(calendar.getTime());
+        calendar.add(Calendar.DATE, 1);
+        this.untilLimit = calendar.getTime();
+        this.exceptionDates = new LinkedHashSet<>();
+        for (String exceptionDate : exceptionDates) {
+            this.exceptionDates.add(dateFormat.format(parseDate(exceptionDate)));
+        }
+    }
+
+    /**
+     * Creates a recurrence rule from its String form, as written by the user or by toString.
+     * @param rule The rule, e.g. weekly until: 04/30/2030 except: 02/19/2030,03/05/2030.
+     * @return The recurrence rule.
+     * @throws DateFormatException If the rule or any of its dates is invalid.
+     */
+    public static Recurrence fromString(String rule) throws DateFormatException {
+        if (!rule.startsWith(RULE_PREFIX)) {
+            throw new DateFormatException(INVALID_RULE);
+        }
+        String[] components = rule.substring(RULE_PREFIX.length()).split(EXCEPT, 2);
+        List<String> exceptionDates = new ArrayList<>();
+        if (components.length == 2) {
+            for (String exceptionDate : components[1].split(DATE_DELIMITER)) {
+                exceptionDates.add(exceptionDate.trim());
+            }
+        }
+        return new Recurrence(components[0].trim(), exceptionDates);
+    }
+
+    private static Date parseDate(String date) throws DateFormatException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+        dateFormat.setLenient(false);
+        try {
+            return dateFormat.parse(date);
+        } catch (ParseException e) {
+            throw new DateFormatException(INVALID_RULE);
+        }
+    }
+
+    /**
+     * Checks if the first occurrence of a task can start under this rule.
+     * @param firstStart The start of the first occurrence.
+     * @return True if the first occurrence starts on or before the until date.
+     */
+    public boolean isValidFirstStart(DateTime firstStart) {
+        return firstStart.getDateTime().before(untilLimit);
+    }
+
+    /**
+     * Checks if an occurrence is short enough not to overlap with the occurrence of the following week.
+     * @param firstStart The start of the first occurrence.
+     * @param firstEnd The end of the first occurrence.
+     * @return True if the occurrence lasts less than a week.
+     */
+    public static boolean isValidDuration(DateTime firstStart, DateTime firstEnd) {
+        return firstEnd.getDateTime().getTime() - firstStart.getDateTime().getTime() < WEEK;
+    }
+
+    /**
+     * Expands the occurrences that overlap with a window. The weeks before the window are skipped arithmetically,
+     * so only the occurrences near the window are visited.
+     * @param firstStart The start of the first occurrence.
+     * @param firstEnd The end of the first occurrence.
+     * @param from The start of the window.
+     * @param to The end of the window.
+     * @return List of occurrences as start and end pairs, in chronological order.
+     */
+    public List<Pair<DateTime, DateTime>> getOccurrences(DateTime firstStart, DateTime firstEnd, DateTime from,
+                                                         DateTime to) {
+        long duration = firstEnd.getDateTime().getTime() - firstStart.getDateTime().getTime();
+        long fromTime = from.getDateTime().getTime();
+        long toTime = Math.min(to.getDateTime().getTime(), untilLimit.getTime());
+        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(firstStart.getDateTime());
+        long weeksBeforeWindow = (fromTime - duration - calendar.getTimeInMillis()) / WEEK - 1;
+        if (weeksBeforeWindow > 0) {
+            calendar.add(Calendar.WEEK_OF_YEAR, (int) weeksBeforeWindow);
+        }
+
+        List<Pair<DateTime, DateTime>> occurrences = new ArrayList<>();
+        while (calendar.getTimeInMillis() < toTime) {
+            long start = calendar.getTimeInMillis();
+            if (start + duration > fromTime && !exceptionDates.contains(dateFormat.format(calendar.getTime()))) {
+                occurrences.add(new Pair<>(new DateTime(calendar.getTime()), new DateTime(new Date(start + duration))));
+            }
+            calendar.add(Calendar.WEEK_OF_YEAR, 1);
+        }
+        return occurrences;
+    }
+
+    /**
+     * Expands every occurrence of the rule, from the first occurrence up to the until date.
+     * @param firstStart The start of the first occurrence.
+     * @param firstEnd The end of the first occurrence.
+     * @return List of occurrences as start and end pairs, in chronological order.
+     */
+    public List<Pair<DateTime, DateTime>> getOccurrences(DateTime firstStart, DateTime firstEnd) {
+        return this.getOccurrences(firstStart, firstEnd, firstStart, new DateTime(untilLimit));
+    }
+
+    @Override
+    public String toString() {
+        String rule = RULE_PREFIX + untilDate;
+        if (!exceptionDates.isEmpty()) {
+            rule = rule.concat(EXCEPT + String.join(DATE_DELIMITER, exceptionDates));
+        }
+        return rule;
+    }
+}
@@ -1,19 +1,30 @@
 package spinbox.entities.items.tasks;
 
+import javafx.util.Pair;
 import spinbox.DateTime;
+import spinbox.datapersistors.storage.Interner;
 import spinbox.exceptions.CorruptedDataException;
 import spinbox.exceptions.DateFormatException;
 import spinbox.exceptions.ScheduleDateException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public abstract class Schedulable extends Task {
     private static final String EXCEPTION_MESSAGE_END_DATE_TIME =
             "End date and time cannot be earlier or equal to start date and time.";
     private static final String EXCEPTION_MESSAGE_START_DATE_TIME =
             "Start Date cannot be earlier than the current date and time.";
+    private static final String EXCEPTION_MESSAGE_RECURRENCE_DURATION =
+            "A recurring task must last less than a week.";
+    private static final String EXCEPTION_MESSAGE_RECURRENCE_UNTIL =
+            "The recurrence cannot end before the first occurrence.";
     private static final String TODAY_STRING = "today";
+    private static final String STORE_DELIMITER = " | ";
 
     DateTime startDate;
     DateTime endDate;
+    Recurrence recurrence;
 
     /**
      * Constructor to initialize default values of any instances of children of Task.
@@ -54,15 +65,19 @@ public abstract class Schedulable extends Task {
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         try {
-            String[] arguments = fromStorage.split(DELIMITER_FILTER);
-            this.setStartDate(new DateTime(arguments[3]));
-            if (arguments.length == 5) {
-                this.setEndDate(new DateTime(arguments[4]));
+            String[] arguments = this.splitStoredString(fromStorage);
+            this.setStartDate(Interner.DATE_TIMES.intern(new DateTime(arguments[3])));
+            if (arguments.length >= 5) {
+                this.setEndDate(Interner.DATE_TIMES.intern(new DateTime(arguments[4])));
+            }
+            if (arguments.length == 6) {
+                this.setRecurrence(Recurrence.fromString(arguments[5]));
             }
             int done = Integer.parseInt(arguments[1]);
             this.updateDone(done == 1);
-            this.setName(arguments[2]);
-        } catch (IndexOutOfBoundsException | NumberFormatException | DateFormatException e) {
+            this.setName(Interner.STRINGS.intern(arguments[2]));
+        } catch (IndexOutOfBoundsException | NumberFormatException | DateFormatException
+                | ScheduleDateException e) {
             throw new CorruptedDataException();
         }
     }
@@ -77,10 +92,87 @@ public abstract class Schedulable extends Task {
 
     public void setStartDate(DateTime startDate) {
         this.startDate = startDate;
+        this.invalidateStrings();
     }
 
     public void setEndDate(DateTime endDate) {
         this.endDate = endDate;
+        this.invalidateStrings();
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Makes this task recur weekly from its first occurrence, or stop recurring if the rule is null.
+     * @param recurrence The weekly recurrence rule, or null.
+     * @throws ScheduleDateException If the occurrences would overlap or the rule ends before the first occurrence.
+     */
+    public void setRecurrence(Recurrence recurrence) throws ScheduleDateException {
+        if (recurrence != null) {
+            if (!Recurrence.isValidDuration(startDate, endDate)) {
+                throw new ScheduleDateException(EXCEPTION_MESSAGE_RECURRENCE_DURATION);
+            } else if (!recurrence.isValidFirstStart(startDate)) {
+                throw new ScheduleDateException(EXCEPTION_MESSAGE_RECURRENCE_UNTIL);
+            }
+        }
+        this.recurrence = recurrence;
+        this.invalidateStrings();
+    }
+
+    /**
+     * Returns the occurrences of this task that overlap with a window. A recurring task is only expanded within
+     * the window, while any other task has at most its single occurrence.
+     * @param from The start of the window.
+     * @param to The end of the window.
+     * @return List of occurrences as start and end pairs, in chronological order.
+     */
+    public List<Pair<DateTime, DateTime>> getOccurrences(DateTime from, DateTime to) {
+        List<Pair<DateTime, DateTime>> occurrences = new ArrayList<>();
+        if (endDate == null) {
+            return occurrences;
+        } else if (this.isRecurring()) {
+            return recurrence.getOccurrences(startDate, endDate, from, to);
+        } else if (from.before(endDate) && startDate.before(to)) {
+            occurrences.add(new Pair<>(startDate, endDate));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns every occurrence of this task.
+     * @return List of occurrences as start and end pairs, in chronological order.
+     */
+    public List<Pair<DateTime, DateTime>> getOccurrences() {
+        List<Pair<DateTime, DateTime>> occurrences = new ArrayList<>();
+        if (endDate == null) {
+            return occurrences;
+        } else if (this.isRecurring()) {
+            return recurrence.getOccurrences(startDate, endDate);
+        }
+        occurrences.add(new Pair<>(startDate, endDate));
+        return occurrences;
+    }
+
+    /**
+     * Returns the recurrence rule as the trailing field of a storage String, before the identifier.
+     * @return the delimited rule, or an empty String if the task does not recur.
+     */
+    protected String storeRecurrenceString() {
+        return this.isRecurring() ? STORE_DELIMITER + recurrence.toString() : "";
+    }
+
+    /**
+     * Returns the recurrence rule to be appended to the String form of the task.
+     * @return the rule preceded by a space, or an empty String if the task does not recur.
+     */
+    protected String getRecurrenceString() {
+        return this.isRecurring() ? " " + recurrence.toString() : "";
     }
 
     abstract String getStartDateString();
@@ -3,7 +3,6 @@ package spinbox.entities.items.tasks;
 import spinbox.entities.items.Item;
 
 public abstract class Task extends Item {
-    protected static final String DELIMITER_FILTER = " \\| ";
     /**
      * Constructor to initialize default values of any instances of children of Task.
      */
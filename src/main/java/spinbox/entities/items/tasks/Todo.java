@@ -25,12 +25,12 @@ public class Todo extends NonSchedulable {
     }
 
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String formatString() {
+        return "[T]" + super.formatString();
     }
 
     @Override
-    public String storeString() {
-        return "T | " + super.storeString();
+    protected String formatStoreString() {
+        return "T | " + super.formatStoreString() + this.storeIdString();
     }
 }
@@ -47,8 +47,9 @@ public class Tutorial extends Schedulable {
     }
 
     @Override
-    public String storeString() {
-        return "TUT | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+    protected String formatStoreString() {
+        return "TUT | " + super.formatStoreString() + " | " + this.getStartDateString() + " | "
+                + this.getEndDateString() + this.storeRecurrenceString() + this.storeIdString();
     }
 
     @Override
@@ -62,9 +63,9 @@ public class Tutorial extends Schedulable {
     }
 
     @Override
-    public String toString() {
-        return "[TUT]" + super.toString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString()
-                + ")";
+    protected String formatString() {
+        return "[TUT]" + super.formatString() + " (at: " + this.getStartDateString() + " to " + this.getEndDateString()
+                + ")" + this.getRecurrenceString();
     }
 
     /**
@@ -82,6 +83,9 @@ public class Tutorial extends Schedulable {
 
     @Override
     public Boolean isOverlapping(DateTime startTime, DateTime endTime) {
+        if (this.isRecurring()) {
+            return !this.getOccurrences(startTime, endTime).isEmpty();
+        }
         return startTime.before(endDate) && startDate.before(endTime);
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package spinbox.gui;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.control.Button;
@@ -12,6 +14,7 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TabPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -27,9 +30,9 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.VBox;
 
 import javafx.util.Pair;
-import spinbox.DateTime;
 import spinbox.SpinBox;
 import spinbox.containers.ModuleContainer;
+import spinbox.containers.TaskIndex;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
 import spinbox.containers.lists.TaskList;
@@ -64,10 +67,17 @@ public class MainWindow extends GridPane {
     private static final String TASKS = "Tasks";
     private static final String FILES = "Files";
     private static final String GRADES = "Grades";
+    private static final int URGENT_TASKS_SHOWN = 5;
+    private static final int MAIN_TAB = 0;
+    private static final int CALENDAR_TAB = 1;
+    private static final int MODULES_TAB = 2;
+    private static final long NOT_RENDERED = -1;
     private static final String HELP_POPUP = "Welcome to the help page.";
     private static final String HELP_PAGE_POPUP = "Example:";
     private static final String NO_DATA = "We notice you have no existing data."
             + " Type \"populate\" into this input box to load sample data.";
+    private static final String LOADING_DATA = "Loading your modules...";
+    private static final String LOADER_THREAD_NAME = "module-loader";
     private static final String CORRUPTED_DATA = "Corrupted Data: please fix or remove affected file(s). More details"
             + " may be found within log file.";
 
@@ -92,7 +102,8 @@ public class MainWindow extends GridPane {
     private Popup popup = new Popup();
     private ArrayList<String> commandHistory = new ArrayList<>();
     private int commandCount = 0;
-    private List<Pair<String, Task>> allTasks;
+    private String calendarDate = "today";
+    private long[] renderedVersions = {NOT_RENDERED, NOT_RENDERED, NOT_RENDERED};
 
     /**
      * FXML method that is used as a post-constructor function to initialize variables and tabbed views.
@@ -103,11 +114,9 @@ public class MainWindow extends GridPane {
         LOGGER.setLevel(Level.INFO);
         LOGGER.entering(getClass().getName(), "initialize");
         try {
-            this.spinBox = new SpinBox();
+            this.spinBox = new SpinBox(false, false);
         } catch (SpinBoxException e) {
-            LOGGER.severe(LOG_CORRUPTED + e.getMessage());
-            userInput.setPromptText(CORRUPTED_DATA);
-            userInput.setStyle("-fx-prompt-text-fill: #FF0000; -fx-font-weight: BOLD");
+            showCorruptedData(e);
             return;
         }
 
@@ -117,16 +126,7 @@ public class MainWindow extends GridPane {
         tabPane.getSelectionModel().selectedIndexProperty().addListener(new ChangeListener<Number>() {
             @Override
             public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
-                switch (newValue.intValue()) {
-                case 0:
-                    updateMain();
-                    break;
-                case 1:
-                    updateCalendar("today");
-                    break;
-                default:
-                    updateModules();
-                }
+                refreshTab(newValue.intValue());
             }
         });
         LOGGER.exiting(getClass().getName(), "initialize");
@@ -185,19 +185,18 @@ public class MainWindow extends GridPane {
 
         switch (comparator) {
         case "main":
-            tabPane.getSelectionModel().select(0);
+            showTab(MAIN_TAB);
             break;
         case "calendar":
-            tabPane.getSelectionModel().select(1);
             if (responseFragments.length == 4) {
-                updateCalendar(responseFragments[2] + "/01/" + responseFragments[3]);
+                this.calendarDate = responseFragments[2] + "/01/" + responseFragments[3];
             } else {
-                updateCalendar("today");
+                this.calendarDate = "today";
             }
+            renderedVersions[CALENDAR_TAB] = NOT_RENDERED;
+            showTab(CALENDAR_TAB);
             break;
         case "modules":
-            tabPane.getSelectionModel().select(2);
-
             if (responseFragments.length == 4) {
                 this.specificModuleCode = responseFragments[2];
                 this.subTab = responseFragments[3].split(" ")[0];
@@ -205,10 +204,11 @@ public class MainWindow extends GridPane {
                 this.specificModuleCode = null;
                 this.subTab = null;
             }
-            updateModules();
+            renderedVersions[MODULES_TAB] = NOT_RENDERED;
+            showTab(MODULES_TAB);
             break;
         default:
-            updateAll();
+            refreshTab(tabPane.getSelectionModel().getSelectedIndex());
             getPopup(response);
             break;
         }
@@ -222,16 +222,58 @@ public class MainWindow extends GridPane {
     }
 
     /**
-     * Initializes the contents of the Main tab, which is the default upon startup.
+     * Initializes the contents of the Main tab, which is the default upon startup, and starts loading the modules.
      */
     public void initializeGui() throws DateFormatException {
         if (spinBox == null) {
             return;
         }
         this.setPopup(popup);
-        this.suggestPopulate();
-        this.updateAll();
+        this.refreshTab(tabPane.getSelectionModel().getSelectedIndex());
         this.enableCommandHistory();
+        this.loadModules();
+    }
+
+    /**
+     * Loads the stored modules on a background thread and shows each module as soon as it is loaded. Input is
+     * disabled until every module is loaded, so that no command saves a partial list of modules.
+     */
+    private void loadModules() {
+        userInput.setDisable(true);
+        submitButton.setDisable(true);
+        userInput.setPromptText(LOADING_DATA);
+        ModuleContainer moduleContainer = spinBox.getModuleContainer();
+
+        Thread loader = new Thread(() -> {
+            try {
+                for (String datum : moduleContainer.loadStoredData()) {
+                    Module module = ModuleContainer.loadModule(datum);
+                    Platform.runLater(() -> publishModule(module));
+                }
+                Platform.runLater(this::finishLoading);
+            } catch (SpinBoxException e) {
+                Platform.runLater(() -> showCorruptedData(e));
+            }
+        }, LOADER_THREAD_NAME);
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void publishModule(Module module) {
+        spinBox.addLoadedModule(module);
+        refreshTab(tabPane.getSelectionModel().getSelectedIndex());
+    }
+
+    private void finishLoading() {
+        userInput.setDisable(false);
+        submitButton.setDisable(false);
+        suggestPopulate();
+    }
+
+    private void showCorruptedData(SpinBoxException e) {
+        LOGGER.severe(LOG_CORRUPTED + e.getMessage());
+        userInput.setPromptText(CORRUPTED_DATA);
+        userInput.setStyle("-fx-prompt-text-fill: #FF0000; -fx-font-weight: BOLD");
     }
 
     private void suggestPopulate() {
@@ -244,10 +286,36 @@ public class MainWindow extends GridPane {
         }
     }
 
-    private void updateAll() {
-        updateMain();
-        updateModules();
-        updateCalendar("today");
+    /**
+     * Selects a tab, rendering it if it is out of date.
+     * @param tabIndex The index of the tab.
+     */
+    private void showTab(int tabIndex) {
+        tabPane.getSelectionModel().select(tabIndex);
+        refreshTab(tabIndex);
+    }
+
+    /**
+     * Renders a tab again only if the modules changed since it was last rendered. Only the visible tab is
+     * refreshed after a command, so hidden tabs are rendered when they are next selected.
+     * @param tabIndex The index of the tab.
+     */
+    private void refreshTab(int tabIndex) {
+        long dataVersion = spinBox.getDataVersion();
+        if (renderedVersions[tabIndex] == dataVersion) {
+            return;
+        }
+        switch (tabIndex) {
+        case MAIN_TAB:
+            updateMain();
+            break;
+        case CALENDAR_TAB:
+            updateCalendar(calendarDate);
+            break;
+        default:
+            updateModules();
+        }
+        renderedVersions[tabIndex] = dataVersion;
     }
 
     private void updateMain() {
@@ -256,6 +324,7 @@ public class MainWindow extends GridPane {
     }
 
     private void updateModules() {
+        recycleBoxes(modulesTabContainer.getChildren());
         modulesTabContainer.getChildren().clear();
 
         if (this.specificModuleCode != null && this.subTab != null) {
@@ -266,101 +335,64 @@ public class MainWindow extends GridPane {
     }
 
     private void updateOverallTasksView() {
-        allTasks = new ArrayList<>();
+        recycleBoxes(overallTasksView.getChildren());
         overallTasksView.getChildren().clear();
         overallTasksView.getChildren().add(addHeader("URGENT TASKS"));
-        ModuleContainer moduleContainer = spinBox.getModuleContainer();
-        HashMap<String, Module> modules = moduleContainer.getModules();
-        for (Map.Entry module : modules.entrySet()) {
-            String moduleCode = (String) module.getKey();
-            Module moduleObject = (Module) module.getValue();
-            TaskList tasks = moduleObject.getTasks();
-            for (Task task : tasks.getList()) {
-                if (!task.getDone()) {
-                    allTasks.add(new Pair<>(moduleCode, task));
-                }
-            }
-        }
-
-        allTasks.sort((o1, o2) -> {
-            Task a = o1.getValue();
-            Task b = o2.getValue();
-
-            DateTime startDateA = null;
-            DateTime startDateB = null;
-
-            if (!a.getDone() && b.getDone()) {
-                return -1;
-            } else if (a.getDone() && !b.getDone()) {
-                return 1;
-            }
-
-            if (a.isSchedulable()) {
-                startDateA = ((Schedulable) a).getStartDate();
-            }
-            if (b.isSchedulable()) {
-                startDateB = ((Schedulable) b).getStartDate();
-            }
-
-            if (startDateA == null && startDateB == null) {
-                return a.getName().compareToIgnoreCase(b.getName());
-            } else if (startDateA == null) {
-                return 1;
-            } else if (startDateB == null) {
-                return -1;
-            } else {
-                return startDateA.compareTo(startDateB);
-            }
-        });
+        TaskIndex taskIndex = spinBox.getModuleContainer().getTaskIndex();
 
-        int boxes;
-        if (allTasks.size() < 5) {
-            boxes = allTasks.size();
-        }  else {
-            boxes = 5;
-        }
-
-        int count = 0;
-        int index = 0;
-        while (count < boxes && index < allTasks.size()) {
-            Task addTask = allTasks.get(index).getValue();
-            if (addTask.getTaskType() != TaskType.EXAM) {
-                String moduleCode = allTasks.get(index).getKey();
-                String description = addTask.getTaskType().name();
-                description += ": " + addTask.getName();
-                String dates = "";
-                if (addTask.isSchedulable()) {
-                    Schedulable task = ((Schedulable)addTask);
-                    dates += task.getStartDate().toString();
-                    if (TaskType.taskWithBothDates().contains(task.getTaskType())) {
-                        dates += " to " + task.getEndDate().toString();
-                        dates = "At: " + dates;
-                    } else {
-                        dates = "By: " + dates;
-                    }
+        for (Pair<String, Task> item : taskIndex.getUrgentTasks(URGENT_TASKS_SHOWN)) {
+            Task addTask = item.getValue();
+            String moduleCode = item.getKey();
+            String description = addTask.getTaskType().name();
+            description += ": " + addTask.getName();
+            String dates = "";
+            if (addTask.isSchedulable()) {
+                Schedulable task = ((Schedulable)addTask);
+                dates += task.getStartDate().toString();
+                if (TaskType.taskWithBothDates().contains(task.getTaskType())) {
+                    dates += " to " + task.getEndDate().toString();
+                    dates = "At: " + dates;
+                } else {
+                    dates = "By: " + dates;
                 }
-                overallTasksView.getChildren().add(TaskBox.getTaskBox(description, moduleCode, dates));
-                count += 1;
             }
-            index += 1;
+            overallTasksView.getChildren().add(TaskBox.getTaskBox(description, moduleCode, dates));
         }
     }
 
     private void updateExams() {
+        recycleBoxes(examsList.getChildren());
         examsList.getChildren().clear();
         examsList.getChildren().add(addHeader("EXAM"));
-        for (Pair item : allTasks) {
-            Task addTask = (Task) item.getValue();
-            if (addTask.getTaskType() == TaskType.EXAM) {
-                String description = addTask.getTaskType().name();
-                description += ": " + addTask.getName();
-                String dates = "";
-                Exam task = ((Exam)addTask);
-                dates += task.getStartDate().toString();
-                dates += " " + task.getEndDate().toString();
-                dates = "At: " + dates;
-                String moduleCode = (String) item.getKey();
-                examsList.getChildren().add(TaskBox.getTaskBox(description, moduleCode, dates));
+        TaskIndex taskIndex = spinBox.getModuleContainer().getTaskIndex();
+        for (Pair<String, Task> item : taskIndex.getTasks(TaskType.EXAM, false)) {
+            Exam task = (Exam) item.getValue();
+            String description = task.getTaskType().name();
+            description += ": " + task.getName();
+            String dates = "";
+            dates += task.getStartDate().toString();
+            dates += " " + task.getEndDate().toString();
+            dates = "At: " + dates;
+            String moduleCode = item.getKey();
+            examsList.getChildren().add(TaskBox.getTaskBox(description, moduleCode, dates));
+        }
+    }
+
+    /**
+     * Returns the item boxes among nodes about to be cleared, including those inside scroll panes, to their pools.
+     * The scroll panes are emptied so that a recycled box never has two parents.
+     * @param nodes The nodes about to be cleared.
+     */
+    private void recycleBoxes(List<Node> nodes) {
+        TaskBox.recycle(nodes);
+        ModuleBox.recycle(nodes);
+        FileBox.recycle(nodes);
+        GradedComponentBox.recycle(nodes);
+        for (Node node : nodes) {
+            if (node instanceof ScrollPane && ((ScrollPane) node).getContent() instanceof Pane) {
+                Pane content = (Pane) ((ScrollPane) node).getContent();
+                recycleBoxes(content.getChildren());
+                content.getChildren().clear();
             }
         }
     }
@@ -575,6 +607,7 @@ public class MainWindow extends GridPane {
     }
 
     private void updateCalendar(String dateTime) {
+        List<Pair<String, Task>> allTasks = spinBox.getModuleContainer().getTaskIndex().getUndoneTasks();
         CalendarMonthBox monthBox = new CalendarMonthBox(dateTime, allTasks);
         calendarView.getChildren().clear();
         calendarView.getChildren().add(monthBox);
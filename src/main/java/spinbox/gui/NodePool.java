@@ -0,0 +1,53 @@
+package spinbox.gui;
+
+import javafx.scene.Node;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * A pool of item boxes of one type, so that a refreshed list reuses the boxes of the list it replaces instead of
+ * loading their FXML again. Boxes are only created when the pool runs out.
+ * @param <T> The type of box pooled.
+ */
+public class NodePool<T extends Node> {
+    private static final int MAX_POOLED = 256;
+
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> freeNodes;
+
+    /**
+     * Constructor for an empty pool.
+     * @param type The type of box pooled, used to pick its boxes out of a list of nodes.
+     * @param factory Creates a new box when the pool is empty.
+     */
+    public NodePool(Class<T> type, Supplier<T> factory) {
+        this.type = type;
+        this.factory = factory;
+        this.freeNodes = new ArrayDeque<>();
+    }
+
+    /**
+     * Takes a box from the pool, or creates one if the pool is empty.
+     * @return A box that is not in use.
+     */
+    public T acquire() {
+        T node = freeNodes.poll();
+        return node == null ? factory.get() : node;
+    }
+
+    /**
+     * Returns the boxes of this pool's type among a list of nodes to the pool. The nodes must be removed from
+     * their parent right after, before any box is acquired again.
+     * @param nodes The nodes about to be removed from the scene.
+     */
+    public void release(Collection<? extends Node> nodes) {
+        for (Node node : nodes) {
+            if (type.isInstance(node) && freeNodes.size() < MAX_POOLED) {
+                freeNodes.push(type.cast(node));
+            }
+        }
+    }
+}
@@ -3,13 +3,19 @@ package spinbox.gui;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.paint.Color;
 
 import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
 
 public class TaskBox extends AnchorPane {
+    private static final URL TEMPLATE = MainWindow.class.getResource("/view/itemBoxes/TaskBox.fxml");
+    private static final NodePool<TaskBox> POOL = new NodePool<>(TaskBox.class, TaskBox::new);
+
     @FXML
     private Label description;
     @FXML
@@ -17,9 +23,9 @@ public class TaskBox extends AnchorPane {
     @FXML
     private Label dates;
 
-    private TaskBox(String description, String module, String dates) {
+    private TaskBox() {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/itemBoxes/TaskBox.fxml"));
+            FXMLLoader fxmlLoader = new FXMLLoader(TEMPLATE);
             fxmlLoader.setController(this);
             fxmlLoader.setRoot(this);
             fxmlLoader.load();
@@ -30,14 +36,33 @@ public class TaskBox extends AnchorPane {
         this.description.setTextFill(Color.WHITE);
         this.module.setTextFill(Color.WHITE);
         this.dates.setTextFill(Color.WHITE);
+        this.dates.setAlignment(Pos.BASELINE_RIGHT);
+    }
 
+    private void setContent(String description, String module, String dates) {
         this.description.setText(description);
         this.module.setText(module);
         this.dates.setText(dates);
-        this.dates.setAlignment(Pos.BASELINE_RIGHT);
     }
 
+    /**
+     * Gets a task box showing a task, reusing a recycled box if there is one.
+     * @param description The type and name of the task.
+     * @param module The module code of the task.
+     * @param dates The dates of the task.
+     * @return The task box.
+     */
     public static TaskBox getTaskBox(String description, String module, String dates) {
-        return new TaskBox(description, module, dates);
+        TaskBox taskBox = POOL.acquire();
+        taskBox.setContent(description, module, dates);
+        return taskBox;
+    }
+
+    /**
+     * Recycles the task boxes among nodes that are about to be removed from the scene.
+     * @param nodes The nodes about to be removed.
+     */
+    public static void recycle(Collection<? extends Node> nodes) {
+        POOL.release(nodes);
     }
 }
@@ -3,21 +3,28 @@ package spinbox.gui.boxes;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import spinbox.entities.items.File;
 import spinbox.gui.MainWindow;
+import spinbox.gui.NodePool;
 
 import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
 
 public class FileBox extends VBox {
+    private static final URL TEMPLATE = MainWindow.class.getResource("/view/itemBoxes/FileBox.fxml");
+    private static final NodePool<FileBox> POOL = new NodePool<>(FileBox.class, FileBox::new);
+
     @FXML
     private Label fileDetails;
 
-    private FileBox(File file, int index) {
+    private FileBox() {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/itemBoxes/FileBox.fxml"));
+            FXMLLoader fxmlLoader = new FXMLLoader(TEMPLATE);
             fxmlLoader.setController(this);
             fxmlLoader.setRoot(this);
             fxmlLoader.load();
@@ -31,11 +38,25 @@ public class FileBox extends VBox {
         setMargin(this, new Insets(10, 10, 10, 10));
         this.fileDetails.setStyle("-fx-font-weight: bold");
         this.fileDetails.setTextFill(Color.WHITE);
-
-        this.fileDetails.setText(index + ". " + file.toString());
     }
 
+    /**
+     * Gets a file box showing a file, reusing a recycled box if there is one.
+     * @param file The file to show.
+     * @param index The index of the file in its list.
+     * @return The file box.
+     */
     public static FileBox getFileBox(File file, int index) {
-        return new FileBox(file, index);
+        FileBox fileBox = POOL.acquire();
+        fileBox.fileDetails.setText(index + ". " + file.toString());
+        return fileBox;
+    }
+
+    /**
+     * Recycles the file boxes among nodes that are about to be removed from the scene.
+     * @param nodes The nodes about to be removed.
+     */
+    public static void recycle(Collection<? extends Node> nodes) {
+        POOL.release(nodes);
     }
 }
@@ -3,22 +3,29 @@ package spinbox.gui.boxes;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import spinbox.entities.items.GradedComponent;
 import spinbox.gui.MainWindow;
+import spinbox.gui.NodePool;
 
 import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
 
 public class GradedComponentBox extends VBox {
+    private static final URL TEMPLATE = MainWindow.class.getResource("/view/itemBoxes/GradedComponentBox.fxml");
+    private static final NodePool<GradedComponentBox> POOL = new NodePool<>(GradedComponentBox.class,
+            GradedComponentBox::new);
+
     @FXML
     private Label gradedComponentDetails;
 
-    private GradedComponentBox(GradedComponent gradedComponent, int index) {
+    private GradedComponentBox() {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource(
-                    "/view/itemBoxes/GradedComponentBox.fxml"));
+            FXMLLoader fxmlLoader = new FXMLLoader(TEMPLATE);
             fxmlLoader.setController(this);
             fxmlLoader.setRoot(this);
             fxmlLoader.load();
@@ -32,10 +39,25 @@ public class GradedComponentBox extends VBox {
         setMargin(this, new Insets(10, 10, 10, 10));
         this.gradedComponentDetails.setStyle("-fx-font-weight: bold");
         this.gradedComponentDetails.setTextFill(Color.WHITE);
-        this.gradedComponentDetails.setText(index + ". " + gradedComponent.toString());
     }
 
+    /**
+     * Gets a box showing a graded component, reusing a recycled box if there is one.
+     * @param gradedComponent The graded component to show.
+     * @param index The index of the graded component in its list.
+     * @return The graded component box.
+     */
     public static GradedComponentBox getGradedComponentsBox(GradedComponent gradedComponent, int index) {
-        return new GradedComponentBox(gradedComponent, index);
+        GradedComponentBox gradedComponentBox = POOL.acquire();
+        gradedComponentBox.gradedComponentDetails.setText(index + ". " + gradedComponent.toString());
+        return gradedComponentBox;
+    }
+
+    /**
+     * Recycles the graded component boxes among nodes that are about to be removed from the scene.
+     * @param nodes The nodes about to be removed.
+     */
+    public static void recycle(Collection<? extends Node> nodes) {
+        POOL.release(nodes);
     }
 }
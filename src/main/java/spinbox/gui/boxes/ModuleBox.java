@@ -3,23 +3,29 @@ package spinbox.gui.boxes;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import spinbox.gui.MainWindow;
+import spinbox.gui.NodePool;
 
 import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
 
 public class ModuleBox extends VBox {
+    private static final URL TEMPLATE = MainWindow.class.getResource("/view/ModuleListBox/ModuleListBox.fxml");
+    private static final NodePool<ModuleBox> POOL = new NodePool<>(ModuleBox.class, ModuleBox::new);
+
     @FXML
     private Label moduleNameLabel;
     @FXML
     private Label moduleCodeLabel;
 
-    private ModuleBox(String moduleCode, String moduleName) {
+    private ModuleBox() {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class
-                    .getResource("/view/ModuleListBox/ModuleListBox.fxml"));
+            FXMLLoader fxmlLoader = new FXMLLoader(TEMPLATE);
             fxmlLoader.setController(this);
             fxmlLoader.setRoot(this);
             fxmlLoader.load();
@@ -33,13 +39,26 @@ public class ModuleBox extends VBox {
         setMargin(this, new Insets(10, 10, 10, 10));
         this.moduleCodeLabel.setStyle("-fx-font-weight: bold");
         this.moduleCodeLabel.setTextFill(Color.WHITE);
-
-
-        this.moduleCodeLabel.setText(moduleCode);
-        this.moduleNameLabel.setText(moduleName);
     }
 
+    /**
+     * Gets a module box showing a module, reusing a recycled box if there is one.
+     * @param moduleCode The module code.
+     * @param moduleName The module name.
+     * @return The module box.
+     */
     public static ModuleBox getModuleListBox(String moduleCode, String moduleName) {
-        return new ModuleBox(moduleCode, moduleName);
+        ModuleBox moduleBox = POOL.acquire();
+        moduleBox.moduleCodeLabel.setText(moduleCode);
+        moduleBox.moduleNameLabel.setText(moduleName);
+        return moduleBox;
+    }
+
+    /**
+     * Recycles the module boxes among nodes that are about to be removed from the scene.
+     * @param nodes The nodes about to be removed.
+     */
+    public static void recycle(Collection<? extends Node> nodes) {
+        POOL.release(nodes);
     }
 }
@@ -0,0 +1,287 @@
+package spinbox.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import javafx.util.Pair;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleContainer;
+import spinbox.entities.GradeSummary;
+import spinbox.entities.Module;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
+import spinbox.exceptions.StorageException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Headless entry point that serves SpinBox over HTTP on the loopback interface, without starting the GUI.
+ * Commands are posted to /command and executed one at a time by a single writer thread, while the JSON views
+ * under /modules, /tasks and /grades are served concurrently from a pool of reader threads.
+ *
+ * <p>Commands that depend on the current page, such as 'add / todo' after 'view / modules CG1111', are resolved
+ * against a page trace of their own for each client. A client names its session with the X-SpinBox-Session
+ * header; requests without it share a default session. Only the most recently used sessions are kept.</p>
+ */
+public class SpinBoxServer {
+    private static final Logger LOGGER = Logger.getLogger(SpinBoxServer.class.getName());
+    private static final String LOG_STARTED = "SpinBox server listening on ";
+    private static final String LOG_STOPPED = "SpinBox server stopped.";
+    private static final String LOG_REQUEST_FAILED = "Request failed: ";
+    private static final int DEFAULT_PORT = 8400;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_SERVER_ERROR = 500;
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+    private static final String APPLICATION_JSON = "application/json; charset=utf-8";
+    private static final String NOT_FOUND = "Not found.";
+    private static final String METHOD_NOT_ALLOWED = "Method not allowed.";
+    private static final String COMMAND_FAILED = "The command could not be executed.";
+    private static final String SESSION_HEADER = "X-SpinBox-Session";
+    private static final String DEFAULT_SESSION = "";
+    private static final String MAIN_PAGE = "main";
+    private static final int SESSION_CAPACITY = 64;
+
+    private final SpinBox spinBox;
+    private final HttpServer httpServer;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+    private final ReadWriteLock dataLock;
+    private final Map<String, ArrayDeque<String>> pageTraces;
+
+    /**
+     * Constructor for a server over the SpinBox data in the working directory.
+     * @param port The loopback port to listen on, or 0 for any free port.
+     * @throws StorageException If the SpinBox data cannot be loaded.
+     * @throws IOException If the port cannot be bound.
+     */
+    public SpinBoxServer(int port) throws StorageException, IOException {
+        LOGGER.setLevel(Level.INFO);
+        LOGGER.setUseParentHandlers(true);
+        spinBox = new SpinBox();
+        dataLock = new ReentrantReadWriteLock();
+        pageTraces = new LinkedHashMap<String, ArrayDeque<String>>(SESSION_CAPACITY, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ArrayDeque<String>> eldest) {
+                return size() > SESSION_CAPACITY;
+            }
+        };
+        readers = Executors.newCachedThreadPool();
+        writer = Executors.newSingleThreadExecutor();
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.setExecutor(readers);
+        httpServer.createContext("/command", this::handleCommand);
+        httpServer.createContext("/modules", exchange -> this.handleView(exchange, this::viewModules));
+        httpServer.createContext("/tasks", exchange -> this.handleView(exchange, this::viewTasks));
+        httpServer.createContext("/grades", exchange -> this.handleView(exchange, this::viewGrades));
+    }
+
+    /**
+     * Entry point of the headless server.
+     * @param args An optional port number, 8400 by default.
+     */
+    public static void main(String[] args) throws StorageException, IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        SpinBoxServer server = new SpinBoxServer(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+    }
+
+    public void start() {
+        httpServer.start();
+        LOGGER.info(LOG_STARTED + this.getAddress());
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for the requests in progress to finish.
+     */
+    public void stop() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        writer.shutdown();
+        readers.shutdown();
+        LOGGER.info(LOG_STOPPED);
+    }
+
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals(POST)) {
+            this.respond(exchange, STATUS_METHOD_NOT_ALLOWED, TEXT_PLAIN, METHOD_NOT_ALLOWED);
+            return;
+        }
+        String input;
+        try (InputStream body = exchange.getRequestBody()) {
+            input = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        String session = exchange.getRequestHeaders().getFirst(SESSION_HEADER);
+        String sessionKey = session == null ? DEFAULT_SESSION : session;
+
+        Future<String> response = writer.submit(() -> {
+            dataLock.writeLock().lock();
+            try {
+                return spinBox.getResponse(input, this.getPageTrace(sessionKey));
+            } finally {
+                dataLock.writeLock().unlock();
+            }
+        });
+        try {
+            this.respond(exchange, STATUS_OK, TEXT_PLAIN, response.get());
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.warning(LOG_REQUEST_FAILED + e.getMessage());
+            this.respond(exchange, STATUS_SERVER_ERROR, TEXT_PLAIN, COMMAND_FAILED);
+        }
+    }
+
+    /**
+     * Returns the page trace of a session, starting a new one on the main page for an unknown session. Only
+     * called from the writer thread.
+     * @param session The name of the session.
+     * @return The page trace of the session.
+     */
+    private ArrayDeque<String> getPageTrace(String session) {
+        return pageTraces.computeIfAbsent(session, key -> {
+            ArrayDeque<String> pageTrace = new ArrayDeque<>();
+            pageTrace.add(MAIN_PAGE);
+            return pageTrace;
+        });
+    }
+
+    private void handleView(HttpExchange exchange, View view) throws IOException {
+        if (!exchange.getRequestMethod().equals(GET)) {
+            this.respond(exchange, STATUS_METHOD_NOT_ALLOWED, TEXT_PLAIN, METHOD_NOT_ALLOWED);
+            return;
+        } else if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+            this.respond(exchange, STATUS_NOT_FOUND, TEXT_PLAIN, NOT_FOUND);
+            return;
+        }
+
+        String json;
+        dataLock.readLock().lock();
+        try {
+            json = view.render(spinBox.getModuleContainer());
+        } finally {
+            dataLock.readLock().unlock();
+        }
+        this.respond(exchange, STATUS_OK, APPLICATION_JSON, json);
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(CONTENT_TYPE, contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private String viewModules(ModuleContainer moduleContainer) {
+        StringBuilder json = new StringBuilder("[");
+        for (Module module : new TreeMap<>(moduleContainer.getModules()).values()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"code\":").append(quote(module.getModuleCode()))
+                    .append(",\"name\":").append(quote(module.getModuleName()))
+                    .append(",\"tasks\":").append(module.getTasks().size()).append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private String viewTasks(ModuleContainer moduleContainer) {
+        StringBuilder json = new StringBuilder("[");
+        for (Pair<String, Task> entry : moduleContainer.getTaskIndex().getUndoneTasks()) {
+            Task task = entry.getValue();
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"module\":").append(quote(entry.getKey()))
+                    .append(",\"id\":").append(quote(task.getIdString()))
+                    .append(",\"type\":").append(quote(task.getTaskType().name()))
+                    .append(",\"name\":").append(quote(task.getName()));
+            if (task.isSchedulable()) {
+                Schedulable schedulable = (Schedulable) task;
+                json.append(",\"start\":").append(quote(schedulable.getStartDate().toString()));
+                if (schedulable.getEndDate() != null) {
+                    json.append(",\"end\":").append(quote(schedulable.getEndDate().toString()));
+                }
+            }
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private String viewGrades(ModuleContainer moduleContainer) {
+        StringBuilder json = new StringBuilder("[");
+        for (Map.Entry<String, Module> entry : new TreeMap<>(moduleContainer.getModules()).entrySet()) {
+            GradeSummary summary = entry.getValue().getGradeSummary();
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"module\":").append(quote(entry.getKey()))
+                    .append(",\"totalWeight\":").append(summary.getTotalWeight())
+                    .append(",\"weightedScore\":").append(summary.getWeightedScore())
+                    .append(",\"knownWeight\":").append(summary.getKnownWeight()).append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\r':
+                quoted.append("\\r");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            default:
+                if (character < ' ') {
+                    quoted.append(String.format("\\u%04x", (int) character));
+                } else {
+                    quoted.append(character);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * A read-only JSON view over the modules.
+     */
+    private interface View {
+        String render(ModuleContainer moduleContainer);
+    }
+}
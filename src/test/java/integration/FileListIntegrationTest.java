@@ -46,8 +46,7 @@ public class FileListIntegrationTest {
         ui = new Ui(true);
 
         String setNameForNote1 = "set-name TESTMOD / file 1 to: file2";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(setNameForNote1);
+        command = new Parser(pageTrace).parse(setNameForNote1);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertEquals(fileList.get(0).toString(), "[NOT DOWNLOADED] file2");
@@ -72,8 +71,7 @@ public class FileListIntegrationTest {
 
         try {
             String setNameForFile1 = "set-name TESTMOD / file 2 to: file2";
-            Parser.setPageTrace(pageTrace);
-            command = Parser.parse(setNameForFile1);
+            command = new Parser(pageTrace).parse(setNameForFile1);
             command.execute(testContainer, pageTrace, ui, false);
             fail();
         } catch (InvalidIndexException e) {
@@ -100,8 +98,7 @@ public class FileListIntegrationTest {
 
         try {
             String setDateForFile1 = "set-date TESTMOD / file 1 to: tomorrow";
-            Parser.setPageTrace(pageTrace);
-            command = Parser.parse(setDateForFile1);
+            command = new Parser(pageTrace).parse(setDateForFile1);
             command.execute(testContainer, pageTrace, ui, false);
             fail();
         } catch (InputException e) {
@@ -43,8 +43,7 @@ public class HelpCommandIntegrationTest {
      */
     private void executeCommand(String userInput) throws SpinBoxException {
         helpText = new HelpList();
-        Parser.setPageTrace(pageTrace);
-        Command command = Parser.parse(userInput);
+        Command command = new Parser(pageTrace).parse(userInput);
         output = command.execute(testContainer, pageTrace, ui, false);
     }
 
@@ -8,6 +8,7 @@ import spinbox.containers.ModuleContainer;
 import spinbox.entities.Module;
 import spinbox.entities.items.File;
 import spinbox.entities.items.GradedComponent;
+import spinbox.entities.items.tasks.Task;
 import spinbox.entities.items.tasks.Todo;
 import spinbox.exceptions.DateFormatException;
 import spinbox.exceptions.SpinBoxException;
@@ -45,14 +46,20 @@ public class ModuleIntegrationTest {
 
         testModuleOne.loadData();
 
-        assertEquals(testModuleOne.getFiles().getList().remove(0).storeString(),
-                new File(0, "testFile1").storeString());
+        File loadedFile = testModuleOne.getFiles().getList().remove(0);
+        File expectedFile = new File(0, "testFile1");
+        expectedFile.setId(loadedFile.getId());
+        assertEquals(loadedFile.storeString(), expectedFile.storeString());
 
-        assertEquals(testModuleOne.getGrades().getList().remove(0).storeString(),
-                new GradedComponent("Essay", 20).storeString());
+        GradedComponent loadedComponent = testModuleOne.getGrades().getList().remove(0);
+        GradedComponent expectedComponent = new GradedComponent("Essay", 20);
+        expectedComponent.setId(loadedComponent.getId());
+        assertEquals(loadedComponent.storeString(), expectedComponent.storeString());
 
-        assertEquals(testModuleOne.getTasks().getList().remove(0).storeString(),
-                new Todo("test todo").storeString());
+        Task loadedTask = testModuleOne.getTasks().getList().remove(0);
+        Todo expectedTask = new Todo("test todo");
+        expectedTask.setId(loadedTask.getId());
+        assertEquals(loadedTask.storeString(), expectedTask.storeString());
 
         assertEquals(testModuleOne.getNotepad().getNotes().remove(0), "hello123");
     }
@@ -79,14 +86,12 @@ public class ModuleIntegrationTest {
         ui = new Ui(true);
 
         String addOneModule = "add / module TESTMOD Test Module";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(addOneModule);
+        command = new Parser(pageTrace).parse(addOneModule);
         command.execute(testContainer, pageTrace, ui, false);
         assertTrue(testContainer.checkModuleExists("TESTMOD"));
 
         String removeOneModule = "remove / module TESTMOD";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(removeOneModule);
+        command = new Parser(pageTrace).parse(removeOneModule);
         command.execute(testContainer, pageTrace, ui, false);
         assertFalse(testContainer.checkModuleExists("TESTMOD"));
     }
@@ -104,8 +109,7 @@ public class ModuleIntegrationTest {
 
         try {
             String removeOneModule = "remove / module random";
-            Parser.setPageTrace(pageTrace);
-            command = Parser.parse(removeOneModule);
+            command = new Parser(pageTrace).parse(removeOneModule);
             command.execute(testContainer, pageTrace, ui, false);
             fail();
         } catch (InputException e) {
@@ -128,8 +132,7 @@ public class ModuleIntegrationTest {
 
         try {
             String removeOneModule = "remove module / TESTMOD";
-            Parser.setPageTrace(pageTrace);
-            command = Parser.parse(removeOneModule);
+            command = new Parser(pageTrace).parse(removeOneModule);
             command.execute(testContainer, pageTrace, ui, false);
             fail();
         } catch (InputException e) {
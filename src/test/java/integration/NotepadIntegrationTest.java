@@ -71,8 +71,7 @@ public class NotepadIntegrationTest {
      * @throws SpinBoxException If there are storage errors or input errors.
      */
     private void executeCommand(String userInput) throws SpinBoxException {
-        Parser.setPageTrace(pageTrace);
-        Command command = Parser.parse(userInput);
+        Command command = new Parser(pageTrace).parse(userInput);
         command.execute(testContainer, pageTrace, ui, false);
     }
 
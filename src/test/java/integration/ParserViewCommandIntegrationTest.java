@@ -1,18 +1,25 @@
 package integration;
 
 import org.junit.jupiter.api.Test;
+import spinbox.DateTime;
 import spinbox.Parser;
+import spinbox.SpinBox;
 import spinbox.Ui;
 import spinbox.commands.Command;
 import spinbox.commands.ViewCommand;
 
 import spinbox.containers.ModuleContainer;
 import spinbox.entities.Module;
+import spinbox.entities.items.File;
+import spinbox.entities.items.tasks.Exam;
+import spinbox.entities.items.tasks.Todo;
 import spinbox.exceptions.SpinBoxException;
 
 import java.util.ArrayDeque;
 import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ParserViewCommandIntegrationTest {
@@ -28,16 +35,14 @@ public class ParserViewCommandIntegrationTest {
         ArrayDeque<String> checkTrace = new ArrayDeque<>();
 
         String toCalendar = "view / calendar";
-        Parser.setPageTrace(pageTrace);
-        Command command = Parser.parse(toCalendar);
+        Command command = new Parser(pageTrace).parse(toCalendar);
         command.execute(testContainer, pageTrace, ui, false);
         checkTrace.add("calendar");
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
 
         String toModules = "view / modules";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModules);
+        command = new Parser(pageTrace).parse(toModules);
         command.execute(testContainer, pageTrace, ui, false);
         checkTrace.clear();
         checkTrace.add("modules");
@@ -45,8 +50,7 @@ public class ParserViewCommandIntegrationTest {
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
 
         String toMain = "view / main";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toMain);
+        command = new Parser(pageTrace).parse(toMain);
         command.execute(testContainer, pageTrace, ui, false);
         checkTrace.clear();
         checkTrace.add("main");
@@ -68,8 +72,7 @@ public class ParserViewCommandIntegrationTest {
         ArrayDeque<String> checkTrace = new ArrayDeque<>();
 
         String toModule = "view / TESTMOD";
-        Parser.setPageTrace(pageTrace);
-        Command command = Parser.parse(toModule);
+        Command command = new Parser(pageTrace).parse(toModule);
         command.execute(testContainer, pageTrace, ui, false);
         checkTrace.addFirst("modules");
         checkTrace.addFirst("TESTMOD");
@@ -80,8 +83,7 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.clear();
         pageTrace.add("calendar");
 
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModule);
+        command = new Parser(pageTrace).parse(toModule);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -89,16 +91,14 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.clear();
         pageTrace.add("modules");
 
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModule);
+        command = new Parser(pageTrace).parse(toModule);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
 
         pageTrace.add("TESTMOD");
 
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModule);
+        command = new Parser(pageTrace).parse(toModule);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -123,8 +123,7 @@ public class ParserViewCommandIntegrationTest {
         Ui ui = new Ui(true);
 
         String toModulesThenTasks = "view / modules TESTMOD tasks";
-        Parser.setPageTrace(pageTrace);
-        Command command = Parser.parse(toModulesThenTasks);
+        Command command = new Parser(pageTrace).parse(toModulesThenTasks);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -133,8 +132,7 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.add("main");
 
         String toModuleTasks = "view / TESTMOD tasks";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModuleTasks);
+        command = new Parser(pageTrace).parse(toModuleTasks);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -142,8 +140,7 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.clear();
         pageTrace.add("calendar");
 
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModuleTasks);
+        command = new Parser(pageTrace).parse(toModuleTasks);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -151,8 +148,7 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.clear();
         pageTrace.add("modules");
 
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModuleTasks);
+        command = new Parser(pageTrace).parse(toModuleTasks);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -162,8 +158,7 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.addFirst("TESTMOD");
 
         String toTasks = "view / tasks";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toTasks);
+        command = new Parser(pageTrace).parse(toTasks);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -188,8 +183,7 @@ public class ParserViewCommandIntegrationTest {
         Ui ui = new Ui(true);
 
         String toModule = "view / testmod";
-        Parser.setPageTrace(pageTrace);
-        Command command = Parser.parse(toModule);
+        Command command = new Parser(pageTrace).parse(toModule);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
@@ -198,11 +192,67 @@ public class ParserViewCommandIntegrationTest {
         pageTrace.add("main");
 
         toModule = "view / TESTMOD";
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(toModule);
+        command = new Parser(pageTrace).parse(toModule);
         command.execute(testContainer, pageTrace, ui, false);
 
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
         testContainer.removeModule(testModule.getModuleCode(),testModule);
     }
+
+    @Test
+    void testParser_viewExams_examsListedWithoutChangingPage() throws SpinBoxException {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+
+        ModuleContainer testContainer = new ModuleContainer();
+        Module testModule = new Module("TESTEXAMS", "Engineering Principles & Practice IV");
+        testContainer.addModule(testModule);
+        Exam laterExam = new Exam("final", new DateTime("05/02/2030 09:00"), new DateTime("05/02/2030 11:00"));
+        Exam earlierExam = new Exam("midterm", new DateTime("03/02/2030 09:00"), new DateTime("03/02/2030 10:00"));
+        testModule.getTasks().add(laterExam);
+        testModule.getTasks().add(earlierExam);
+        Exam pastExam = new Exam();
+        pastExam.fromStoredString("EXAM | 0 | quiz | 03/02/2019 09:00 | 03/02/2019 10:00");
+        testModule.getTasks().add(pastExam);
+
+        pageTrace.add("main");
+        Ui ui = new Ui(true);
+
+        Command command = new Parser(pageTrace).parse("view / exams");
+        String response = command.execute(testContainer, pageTrace, ui, false);
+
+        assertTrue(response.contains("Here are your upcoming exams across your modules:"));
+        int earlierIndex = response.indexOf("TESTEXAMS: " + earlierExam.toString());
+        int laterIndex = response.indexOf("TESTEXAMS: " + laterExam.toString());
+        assertTrue(earlierIndex >= 0 && earlierIndex < laterIndex);
+        assertFalse(response.contains(pastExam.toString()));
+        assertTrue(Arrays.equals(new String[] {"main"}, pageTrace.toArray()));
+        testContainer.removeModule(testModule.getModuleCode(), testModule);
+    }
+
+    @Test
+    void testOneShot_viewModuleTasks_onlyViewedModuleLoaded() throws SpinBoxException {
+        ModuleContainer testContainer = new ModuleContainer();
+        Module viewedModule = new Module("TESTONESHOT", "Engineering Principles & Practice V");
+        Module otherModule = new Module("TESTOTHER", "Engineering Principles & Practice VI");
+        testContainer.addModule(viewedModule);
+        testContainer.addModule(otherModule);
+        viewedModule.getTasks().add(new Todo("one-shot todo"));
+        viewedModule.getFiles().add(new File(0, "one-shot slides"));
+
+        SpinBox spinBox = new SpinBox(false, false);
+        String response = spinBox.getOneShotResponse("view / modules testoneshot tasks");
+
+        assertTrue(response.contains("[T][NOT DONE] one-shot todo"));
+        assertEquals(1, spinBox.getModuleContainer().getModules().size());
+        assertTrue(spinBox.getModuleContainer().checkModuleExists("TESTONESHOT"));
+        Module loadedModule = spinBox.getModuleContainer().getModule("TESTONESHOT");
+        assertEquals(1, loadedModule.getTasks().size());
+        assertEquals(0, loadedModule.getFiles().size());
+
+        spinBox = new SpinBox(false, false);
+        spinBox.getOneShotResponse("view / exams");
+        assertTrue(spinBox.getModuleContainer().checkModuleExists("TESTOTHER"));
+        testContainer.removeModule(viewedModule.getModuleCode(), viewedModule);
+        testContainer.removeModule(otherModule.getModuleCode(), otherModule);
+    }
 }
@@ -0,0 +1,83 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.Parser;
+import spinbox.Ui;
+import spinbox.containers.ModuleContainer;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RunCommandIntegrationTest {
+    private static final String SCRIPT_MODULE = "RUNTEST1";
+    private static final String ATOMIC_SCRIPT_MODULE = "RUNTEST2";
+
+    private String writeScript(String... lines) throws IOException {
+        File script = File.createTempFile("spinBoxScript", ".txt");
+        Files.write(script.toPath(), Arrays.asList(lines));
+        return script.getPath();
+    }
+
+    private void removeModule(ModuleContainer moduleContainer, String moduleCode) throws SpinBoxException {
+        if (moduleContainer.checkModuleExists(moduleCode)) {
+            moduleContainer.removeModule(moduleCode, moduleContainer.getModule(moduleCode));
+        }
+    }
+
+    @Test
+    public void runScript_oneInvalidCommand_otherCommandsRunAndSavedOnceAtEnd() throws SpinBoxException,
+            IOException {
+        ModuleContainer moduleContainer = new ModuleContainer();
+        this.removeModule(moduleContainer, SCRIPT_MODULE);
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        String script = this.writeScript("add / module " + SCRIPT_MODULE + " Scripting",
+                "add " + SCRIPT_MODULE + " / todo first",
+                "",
+                "add " + SCRIPT_MODULE + " / chore second",
+                "add " + SCRIPT_MODULE + " / todo third");
+
+        String output = new Parser(pageTrace).parse("run / " + script).execute(moduleContainer, pageTrace,
+                new Ui(true), false);
+
+        assertTrue(output.contains("Ran 4 commands from " + script));
+        assertTrue(output.contains("Line 4: "));
+        assertFalse(Storage.isDeferringWrites());
+        assertEquals(2, moduleContainer.getModule(SCRIPT_MODULE).getTasks().size());
+        ModuleContainer savedModuleContainer = new ModuleContainer();
+        assertEquals(2, savedModuleContainer.getModule(SCRIPT_MODULE).getTasks().size());
+        this.removeModule(savedModuleContainer, SCRIPT_MODULE);
+    }
+
+    @Test
+    public void runAtomicScript_invalidCommand_changesOfScriptRolledBack() throws SpinBoxException, IOException {
+        ModuleContainer moduleContainer = new ModuleContainer();
+        this.removeModule(moduleContainer, ATOMIC_SCRIPT_MODULE);
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        String script = this.writeScript("add / module " + ATOMIC_SCRIPT_MODULE + " Scripting",
+                "view / modules " + ATOMIC_SCRIPT_MODULE,
+                "add / todo first",
+                "add / chore second");
+
+        String output = new Parser(pageTrace).parse("run / " + script + " --atomic").execute(moduleContainer,
+                pageTrace, new Ui(true), false);
+
+        assertTrue(output.contains("Line 4: "));
+        assertTrue(output.contains("none of its changes were saved"));
+        assertFalse(Storage.isDeferringWrites());
+        assertEquals("main", pageTrace.getLast());
+        assertFalse(moduleContainer.checkModuleExists(ATOMIC_SCRIPT_MODULE));
+        assertFalse(new ModuleContainer().checkModuleExists(ATOMIC_SCRIPT_MODULE));
+        assertFalse(new File("SpinBoxData/" + ATOMIC_SCRIPT_MODULE).exists());
+    }
+}
@@ -0,0 +1,88 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.server.SpinBoxServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpinBoxServerIntegrationTest {
+    private HttpURLConnection open(SpinBoxServer server, String path) throws IOException {
+        InetSocketAddress address = server.getAddress();
+        URL url = new URL("http", address.getHostString(), address.getPort(), path);
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    private String readBody(HttpURLConnection connection) throws IOException {
+        try (InputStream body = connection.getInputStream()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String postCommand(SpinBoxServer server, String session, String input) throws IOException {
+        HttpURLConnection command = open(server, "/command");
+        command.setRequestMethod("POST");
+        command.setRequestProperty("X-SpinBox-Session", session);
+        command.setDoOutput(true);
+        try (OutputStream body = command.getOutputStream()) {
+            body.write(input.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(200, command.getResponseCode());
+        return readBody(command);
+    }
+
+    @Test
+    public void spinBoxServer_commandRequests_pageContextKeptPerSession() throws SpinBoxException, IOException {
+        SpinBoxServer server = new SpinBoxServer(0);
+        server.start();
+        try {
+            postCommand(server, "first", "add / module SRVTEST1 Server");
+            postCommand(server, "first", "view / modules SRVTEST1");
+
+            assertTrue(postCommand(server, "second", "add / todo second").contains("Please be on a module page"));
+            assertFalse(postCommand(server, "first", "add / todo first").contains("Please be on a module page"));
+            assertEquals(1, new ModuleContainer().getModule("SRVTEST1").getTasks().size());
+        } finally {
+            postCommand(server, "first", "remove / module SRVTEST1");
+            server.stop();
+        }
+    }
+
+    @Test
+    public void spinBoxServer_commandAndViewRequests_servedOverLoopback() throws SpinBoxException, IOException {
+        SpinBoxServer server = new SpinBoxServer(0);
+        server.start();
+        try {
+            HttpURLConnection command = open(server, "/command");
+            command.setRequestMethod("POST");
+            command.setDoOutput(true);
+            try (OutputStream body = command.getOutputStream()) {
+                body.write("help / find".getBytes(StandardCharsets.UTF_8));
+            }
+            assertEquals(200, command.getResponseCode());
+            assertTrue(readBody(command).contains("Command: find"));
+
+            HttpURLConnection modules = open(server, "/modules");
+            assertEquals(200, modules.getResponseCode());
+            assertTrue(modules.getContentType().startsWith("application/json"));
+            assertTrue(readBody(modules).startsWith("["));
+
+            HttpURLConnection tasks = open(server, "/tasks");
+            tasks.setRequestMethod("POST");
+            assertEquals(405, tasks.getResponseCode());
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -73,8 +73,7 @@ public class TaskCommandsIntegrationTest {
      * @throws SpinBoxException If there are storage errors or input errors.
      */
     private void executeCommand(String userInput) throws SpinBoxException {
-        Parser.setPageTrace(pageTrace);
-        command = Parser.parse(userInput);
+        command = new Parser(pageTrace).parse(userInput);
         command.execute(testContainer, pageTrace, ui, false);
     }
 
@@ -318,6 +317,42 @@ public class TaskCommandsIntegrationTest {
         testContainer.removeModule(testModule.getModuleCode(),testModule);
     }
 
+    @Test
+    public void findSlotUnsuccessful_durationTooLarge_exceptionThrown() throws SpinBoxException {
+        initializeSetUp();
+        pageTrace.add("main");
+
+        try {
+            executeCommand("find-slot / 99999999999999999999h between: 01/01/2030 10:00 and 01/01/2030 12:00");
+            fail();
+        } catch (InputException e) {
+            testContainer.removeModule(testModule.getModuleCode(),testModule);
+            assertEquals("Invalid Input\n\nPlease use the valid find-slot format:\n"
+                    + "find-slot / <duration> between: <start as MM/DD/YYYY HH:MM> and <end as MM/DD/YYYY HH:MM>\n"
+                    + "The duration is given in hours and/or minutes, e.g. 2h, 45m or 1h30m.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void removeMultipleTasksUnsuccessful_oneInvalidIndex_noTaskRemoved() throws SpinBoxException {
+        initializeSetUp();
+
+        taskList = testModule.getTasks();
+        clearTaskList();
+        taskList.add(new Todo("Test 1"));
+        taskList.add(new Todo("Test 2"));
+        taskList.add(new Todo("Test 3"));
+
+        try {
+            executeCommand("remove-* TESTMOD / task 1,2,5");
+            fail();
+        } catch (InvalidIndexException e) {
+            assertEquals(3, taskList.size());
+            assertEquals(3, new ModuleContainer().getModule("TESTMOD").getTasks().size());
+            testContainer.removeModule(testModule.getModuleCode(),testModule);
+        }
+    }
+
     @Test
     public void removeMultipleTasksUnsuccessful_onlyOneIndexProvided_exceptionThrown() throws
             SpinBoxException {
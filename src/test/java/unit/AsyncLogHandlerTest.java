@@ -0,0 +1,42 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.datapersistors.AsyncLogHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    void publish_recordsBeyondFileSizeLimit_allRecordsWrittenAcrossRotatedFilesOnClose() throws IOException {
+        File directory = Files.createTempDirectory("spinBoxLogs").toFile();
+        String logLocation = new File(directory, "spinBox-log.txt").getPath();
+        AsyncLogHandler handler = new AsyncLogHandler(logLocation, 64, 400, 3);
+        String padding = "-".repeat(300);
+        for (int i = 0; i < 3; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record number " + i + padding));
+        }
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "record after close"));
+
+        String logs = "";
+        for (String suffix : new String[] {".2", ".1", ""}) {
+            File logFile = new File(logLocation + suffix);
+            assertTrue(logFile.exists());
+            logs = logs.concat(new String(Files.readAllBytes(logFile.toPath()), StandardCharsets.UTF_8));
+        }
+        assertTrue(logs.indexOf("record number 0") < logs.indexOf("record number 2"));
+        assertTrue(logs.contains("record number 0") && logs.contains("record number 1"));
+        assertFalse(logs.contains("record after close"));
+        assertEquals(0, handler.getDroppedCount());
+    }
+}
@@ -103,4 +103,25 @@ public class CalendarTest {
         }
 
     }
+
+    @Test
+    public void taskInCalendarByDayInMonth_taskSpanningMonthBoundary_allocatedToEachDayInMonth() {
+        try {
+            List<Pair<String, Task>> testTaskList = new ArrayList<>();
+            Calendar testCalendar = new Calendar("11/07/2029");
+            testTaskList.add(new Pair<>("CS1231", new Lecture("lecture 1",
+                    new DateTime("10/30/2029 14:00"), new DateTime("11/02/2029 00:00"))));
+            testTaskList.add(new Pair<>("CS2040C", new Lecture("lecture 2",
+                    new DateTime("11/30/2029 23:00"), new DateTime("12/01/2029 01:00"))));
+            List<Pair<Integer, List<Pair<String, Task>>>> tasksByDay =
+                    testCalendar.taskInCalendarByDayInMonth(testTaskList);
+            assertEquals(30, tasksByDay.size());
+            assertEquals(1, tasksByDay.get(0).getValue().size());
+            assertEquals(true, tasksByDay.get(1).getValue().isEmpty());
+            assertEquals("CS2040C", tasksByDay.get(29).getValue().get(0).getKey());
+            assertEquals(Integer.valueOf(30), tasksByDay.get(29).getKey());
+        } catch (ScheduleDateException | DateFormatException e) {
+            fail(e.getMessage());
+        }
+    }
 }
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.Test;
 import spinbox.exceptions.DateFormatException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class  DateTimeTest {
 
@@ -79,4 +82,46 @@ public class  DateTimeTest {
         DateTime test = new DateTime(date + " 23:59");
         assertEquals("10/31/2019 23:59", test.getEndOfTheMonth().toString());
     }
+
+    @Test
+    public void dateTimeCreation_repeatedPhrase_resolvedFromParseCacheWithoutSharedDates()
+            throws DateFormatException {
+        DateTime first = new DateTime("11/23/2031  09:15");
+        long hits = DateTime.getParseCacheHits();
+        long misses = DateTime.getParseCacheMisses();
+
+        DateTime second = new DateTime("11/23/2031 09:15");
+        assertEquals(hits + 1, DateTime.getParseCacheHits());
+        assertEquals(misses, DateTime.getParseCacheMisses());
+        assertEquals(first.toString(), second.toString());
+        assertNotSame(first.getDateTime(), second.getDateTime());
+    }
+
+    @Test
+    public void dateTimeCreation_phraseRelativeToCurrentTime_notResolvedFromParseCache()
+            throws DateFormatException {
+        new DateTime("after 30 minutes");
+        long hits = DateTime.getParseCacheHits();
+        long misses = DateTime.getParseCacheMisses();
+
+        new DateTime("after 30 minutes");
+        new DateTime("next hour");
+        assertEquals(hits, DateTime.getParseCacheHits());
+        assertEquals(misses + 2, DateTime.getParseCacheMisses());
+    }
+
+    @Test
+    public void startWarmUp_calledAtStartup_lowPriorityDaemonFinishesWithoutTouchingCache()
+            throws InterruptedException {
+        long hits = DateTime.getParseCacheHits();
+        long misses = DateTime.getParseCacheMisses();
+        Thread warmUp = DateTime.startWarmUp();
+        assertTrue(warmUp.isDaemon());
+        assertEquals(Thread.MIN_PRIORITY, warmUp.getPriority());
+
+        warmUp.join();
+        assertFalse(warmUp.isAlive());
+        assertEquals(hits, DateTime.getParseCacheHits());
+        assertEquals(misses, DateTime.getParseCacheMisses());
+    }
 }
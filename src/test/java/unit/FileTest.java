@@ -6,6 +6,7 @@ import spinbox.entities.items.Item;
 import spinbox.exceptions.DateFormatException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class FileTest {
 
@@ -25,4 +26,18 @@ public class FileTest {
         item.markDone();
         assertEquals("1 | file1", item.storeString());
     }
+
+    @org.junit.jupiter.api.Test
+    void testFromStoredString_nameLikeIdentifier_nameKeptAndMarkedIdentifierRead() throws CorruptedDataException,
+            DateFormatException {
+        Item item = new File();
+        item.fromStoredString("0 | #hw1");
+        assertEquals("[NOT DOWNLOADED] #hw1", item.toString());
+        assertFalse(item.hasId());
+
+        item.fromStoredString("0 | #hw1 | id:#1a");
+        assertEquals("[NOT DOWNLOADED] #hw1", item.toString());
+        assertEquals("#1a", item.getIdString());
+        assertEquals("0 | #hw1 | id:#1a", item.storeString());
+    }
 }
@@ -0,0 +1,88 @@
+package unit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import spinbox.containers.lists.GradeList;
+import spinbox.entities.GradeProjection;
+import spinbox.entities.GradeSummary;
+import spinbox.entities.items.GradedComponent;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GradeListUnitTest {
+    private static final double DELTA = 1e-9;
+
+    @BeforeAll
+    static void createDataDirectory() {
+        new File("SpinBoxData").mkdirs();
+    }
+
+    @Test
+    void getSummary_addScoreAndRemoveComponents_aggregatesKeptCurrent() throws SpinBoxException {
+        GradeList gradeList = new GradeList("testSummaryGradeList");
+        gradeList.add(new GradedComponent("Essay", 20));
+        gradeList.add(new GradedComponent("Final", 50));
+        gradeList.add(new GradedComponent("Quiz", 30));
+
+        GradeSummary summary = gradeList.getSummary();
+        assertEquals(100, summary.getTotalWeight(), DELTA);
+        assertEquals(0, summary.getKnownWeight(), DELTA);
+        assertEquals(100, summary.getRemainingWeight(), DELTA);
+
+        gradeList.updateGradeWeightedScore(gradeList.getIndex("#1"), 15, 20);
+        gradeList.updateGradeWeightedScore(gradeList.getIndex("#3"), 25);
+        summary = gradeList.getSummary();
+        assertEquals(40, summary.getWeightedScore(), DELTA);
+        assertEquals(50, summary.getKnownWeight(), DELTA);
+        assertEquals(50, summary.getRemainingWeight(), DELTA);
+
+        gradeList.updateGradeWeightedScore(gradeList.getIndex("#3"), 30);
+        gradeList.remove(gradeList.getIndex("#1"));
+        summary = gradeList.getSummary();
+        assertEquals(80, summary.getTotalWeight(), DELTA);
+        assertEquals(30, summary.getWeightedScore(), DELTA);
+        assertEquals(30, summary.getKnownWeight(), DELTA);
+        assertEquals(50, summary.getRemainingWeight(), DELTA);
+
+        assertEquals(Arrays.asList("Here is the summary of graded components in your module:",
+                "Total weight of graded components: 80%",
+                "Weighted score attained so far: 30%",
+                "Weight of components with known scores: 30%",
+                "Weight of components still to be scored: 50%"), gradeList.viewSummary());
+    }
+
+    @Test
+    void getProjection_targetWithinRange_requiredScoresComputedAndCacheInvalidatedOnScore()
+            throws SpinBoxException {
+        GradeList gradeList = new GradeList("testProjectionGradeList");
+        gradeList.add(new GradedComponent("Essay", 20));
+        gradeList.add(new GradedComponent("Final", 50));
+        gradeList.add(new GradedComponent("Quiz", 30));
+        gradeList.updateGradeWeightedScore(gradeList.getIndex("#1"), 10);
+
+        GradeProjection projection = gradeList.getProjection();
+        assertSame(projection, gradeList.getProjection());
+        assertEquals(10, projection.getWorstCase(), DELTA);
+        assertEquals(90, projection.getBestCase(), DELTA);
+        assertEquals(75, projection.getRequiredPercentage(70), DELTA);
+        assertEquals(0, projection.getRequiredPercentage(10), DELTA);
+        assertFalse(projection.isAchievable(95));
+
+        int finalIndex = gradeList.getIndex("#2");
+        assertEquals(37.5, projection.getRequiredWeightedScores(70)[finalIndex], DELTA);
+
+        gradeList.updateGradeWeightedScore(finalIndex, 50);
+        GradeProjection updatedProjection = gradeList.getProjection();
+        assertNotSame(projection, updatedProjection);
+        assertTrue(updatedProjection.isSecured(60));
+        assertEquals(100.0 / 3, updatedProjection.getRequiredPercentage(70), DELTA);
+    }
+}
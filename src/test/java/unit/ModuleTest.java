@@ -10,6 +10,8 @@ import spinbox.exceptions.DateFormatException;
 import spinbox.containers.ModuleContainer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ModuleTest {
 
@@ -51,4 +53,20 @@ public class ModuleTest {
         assertEquals(testModuleOneRecreated.getModuleName(), "Engineering Principles & Practice I");
         assertEquals(testModuleOneRecreated.storeString(), "testMod4 | Engineering Principles & Practice I");
     }
+
+    @Test
+    public void loadModule_containerNotLoadedAtConstruction_moduleAddedOnlyWhenPublished()
+            throws StorageException, DateFormatException {
+        ModuleContainer loadedContainer = new ModuleContainer();
+        loadedContainer.addModule(new Module("testMod5", "Programming Methodology"));
+
+        ModuleContainer testContainer = new ModuleContainer(false);
+        assertFalse(testContainer.checkModuleExists("testMod5"));
+        assertTrue(testContainer.loadStoredData().contains("testMod5 | Programming Methodology"));
+
+        Module loadedModule = ModuleContainer.loadModule("testMod5 | Programming Methodology");
+        assertFalse(testContainer.checkModuleExists("testMod5"));
+        testContainer.addLoadedModule(loadedModule);
+        assertEquals("Programming Methodology", testContainer.getModule("testMod5").getModuleName());
+    }
 }
@@ -2,24 +2,101 @@ package unit;
 
 import org.junit.jupiter.api.Test;
 import spinbox.Parser;
+import spinbox.Ui;
 import spinbox.commands.Command;
+import spinbox.commands.CommandInput;
+import spinbox.containers.ModuleContainer;
 import spinbox.exceptions.InputException;
 import spinbox.exceptions.SpinBoxException;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class ParserTest {
 
     @Test
     void testParser_passValidCommands_parserReturnsValidCommandAfterBuildingCommand() throws SpinBoxException {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
         try {
             String userInput1 = "random";
-            Command command = Parser.parse(userInput1);
+            Command command = new Parser(pageTrace).parse(userInput1);
             fail();
         } catch (InputException e) {
             assertEquals("Invalid Input\n\nPlease provide a valid command:\n"
                     + "'<action> <page> / <content>' or 'bye'", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParser_parsersOfSeparateSessions_eachUsesOnlyItsOwnPageTrace() throws SpinBoxException {
+        ModuleContainer testContainer = new ModuleContainer();
+        Ui ui = new Ui(true);
+        ArrayDeque<String> mainPageTrace = new ArrayDeque<>();
+        mainPageTrace.add("main");
+        ArrayDeque<String> modulePageTrace = new ArrayDeque<>();
+        modulePageTrace.add("testParserMissingModule");
+        modulePageTrace.add("modules");
+        Parser mainParser = new Parser(mainPageTrace);
+        Parser moduleParser = new Parser(modulePageTrace);
+
+        Command moduleCommand = moduleParser.parse("add / file notes.pdf");
+        Command mainCommand = mainParser.parse("add / file notes.pdf");
+        assertEquals("This module does not exist.", moduleCommand.execute(testContainer, modulePageTrace, ui,
+                false));
+        try {
+            mainCommand.execute(testContainer, mainPageTrace, ui, false);
+            fail();
+        } catch (InputException e) {
+            assertEquals("Invalid Input\n\nPlease be on a module page or indicate the specific module this action "
+                    + "is for.", e.getMessage());
+        }
+        assertTrue(Arrays.equals(new String[] {"main"}, mainPageTrace.toArray()));
+        assertTrue(Arrays.equals(new String[] {"testParserMissingModule", "modules"}, modulePageTrace.toArray()));
+    }
+
+    @Test
+    void testParser_upperCaseActionAndExplicitModule_moduleTakenFromInputNotAction() throws SpinBoxException {
+        ModuleContainer testContainer = new ModuleContainer();
+        Ui ui = new Ui(true);
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        Parser parser = new Parser(pageTrace);
+
+        Command command = parser.parse("ADD modules testParserMissingModule / file notes.pdf");
+        assertEquals("This module does not exist.", command.execute(testContainer, pageTrace, ui, false));
+        try {
+            parser.parse("add modules testParserMissingModule extra / file notes.pdf");
+            fail();
+        } catch (InputException e) {
+            assertEquals("Invalid Input\n\nPlease provide a valid command:\n"
+                    + "'<action> <page> / <content>' or 'bye'", e.getMessage());
+        }
+    }
+
+    @Test
+    void testCommandInput_variousContents_tokensMatchSplittingOnSpaces() {
+        String[] contents = {"", "file", "Task 2 done", "deadline  submit report by: 01/01/2020 10:00",
+            "module CS2113T Software Engineering"};
+        for (String content : contents) {
+            CommandInput input = new CommandInput(new String[] {"main"}, content);
+            assertArrayEquals(content.split(" "), input.getTokens());
+        }
+    }
+
+    @Test
+    void testCommandInput_contentWithType_typeAndArgumentsSeparated() {
+        CommandInput input = new CommandInput(new String[] {"modules", "CS2113T"}, "Todo finish the todo list");
+        assertEquals("todo", input.getType());
+        assertEquals("finish the todo list", input.getArguments());
+
+        CommandInput emptyInput = new CommandInput(new String[] {"main"}, "");
+        assertEquals("", emptyInput.getType());
+        assertEquals("", emptyInput.getArguments());
+    }
+}
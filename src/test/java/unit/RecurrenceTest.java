@@ -0,0 +1,75 @@
+package unit;
+
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+import spinbox.DateTime;
+import spinbox.entities.items.tasks.Lab;
+import spinbox.entities.items.tasks.Lecture;
+import spinbox.entities.items.tasks.Recurrence;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecurrenceTest {
+    private List<String> toStrings(List<Pair<DateTime, DateTime>> occurrences) {
+        List<String> output = new ArrayList<>();
+        for (Pair<DateTime, DateTime> occurrence : occurrences) {
+            output.add(occurrence.getKey().toString() + " to " + occurrence.getValue().toString());
+        }
+        return output;
+    }
+
+    @Test
+    public void getOccurrences_weeklyLectureWithException_onlyOccurrencesInWindowExpanded() throws SpinBoxException {
+        Lecture lecture = new Lecture("lecture", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00"));
+        lecture.setRecurrence(Recurrence.fromString("weekly until: 02/05/2030 except: 01/15/2030"));
+
+        assertEquals(Arrays.asList("01/08/2030 10:00 to 01/08/2030 12:00", "01/22/2030 10:00 to 01/22/2030 12:00"),
+                toStrings(lecture.getOccurrences(new DateTime("01/08/2030 11:00"),
+                        new DateTime("01/29/2030 10:00"))));
+        assertEquals(5, lecture.getOccurrences().size());
+        assertTrue(lecture.isOverlapping(new DateTime("02/05/2030 11:00"), new DateTime("02/05/2030 13:00")));
+        assertFalse(lecture.isOverlapping(new DateTime("01/15/2030 09:00"), new DateTime("01/15/2030 13:00")));
+        assertFalse(lecture.isOverlapping(new DateTime("02/12/2030 09:00"), new DateTime("02/12/2030 13:00")));
+    }
+
+    @Test
+    public void getOccurrences_unpaddedExceptionDate_occurrenceSkippedAndDateStoredPadded() throws SpinBoxException {
+        Lecture lecture = new Lecture("lecture", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00"));
+        lecture.setRecurrence(Recurrence.fromString("weekly until: 2/5/2030 except: 1/15/2030"));
+
+        assertEquals(5, lecture.getOccurrences().size());
+        assertFalse(lecture.isOverlapping(new DateTime("01/15/2030 09:00"), new DateTime("01/15/2030 13:00")));
+        assertEquals("weekly until: 02/05/2030 except: 01/15/2030", lecture.getRecurrence().toString());
+    }
+
+    @Test
+    public void storeString_recurringLab_ruleStoredOnceAndRestored() throws SpinBoxException {
+        Lab lab = new Lab("lab", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00"));
+        lab.setRecurrence(Recurrence.fromString("weekly until: 03/31/2030"));
+        lab.setId(3);
+        assertEquals("LAB | 0 | lab | 01/01/2030 10:00 | 01/01/2030 12:00 | weekly until: 03/31/2030 | id:#3",
+                lab.storeString());
+
+        Lab restoredLab = new Lab();
+        restoredLab.fromStoredString(lab.storeString());
+        assertEquals(lab.toString(), restoredLab.toString());
+        assertEquals(3, restoredLab.getId());
+        assertEquals(13, restoredLab.getOccurrences().size());
+    }
+
+    @Test
+    public void setRecurrence_occurrenceLongerThanAWeek_exceptionThrown() throws SpinBoxException {
+        Lab lab = new Lab("lab", new DateTime("01/01/2030 10:00"), new DateTime("01/09/2030 12:00"));
+        assertThrows(SpinBoxException.class, () -> lab.setRecurrence(Recurrence.fromString(
+                "weekly until: 03/31/2030")));
+        assertThrows(SpinBoxException.class, () -> Recurrence.fromString("weekly until: 13/31/2030"));
+    }
+}
@@ -0,0 +1,170 @@
+package unit;
+
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+import spinbox.DateTime;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.TaskIndex;
+import spinbox.containers.lists.TaskList;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.entities.items.tasks.Deadline;
+import spinbox.entities.items.tasks.Event;
+import spinbox.entities.items.tasks.Exam;
+import spinbox.entities.items.tasks.Lecture;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.TaskType;
+import spinbox.entities.items.tasks.Todo;
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.FileCreationException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskIndexTest {
+    public TaskIndexTest() throws CorruptedDataException, FileCreationException, DataReadWriteException {
+        new ModuleContainer();
+    }
+
+    private List<String> toNames(List<Pair<String, Task>> entries) {
+        List<String> names = new ArrayList<>();
+        for (Pair<String, Task> entry : entries) {
+            names.add(entry.getKey() + " " + entry.getValue().getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void getUndoneTasks_tasksInTwoModules_mergedInTaskComparatorOrder() throws SpinBoxException {
+        TaskList tasksOne = new TaskList("testIndexModOne");
+        TaskList tasksTwo = new TaskList("testIndexModTwo");
+        TaskIndex taskIndex = new TaskIndex();
+        tasksOne.add(new Deadline("deadline2", new DateTime("01/02/2030 10:00")));
+        taskIndex.track(tasksOne);
+        taskIndex.track(tasksTwo);
+
+        tasksTwo.add(new Exam("exam", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00")));
+        tasksOne.add(new Todo("todo"));
+        tasksTwo.add(new Deadline("deadline3", new DateTime("01/03/2030 10:00")));
+
+        assertEquals(Arrays.asList("testIndexModTwo exam", "testIndexModOne deadline2",
+                "testIndexModTwo deadline3", "testIndexModOne todo"), toNames(taskIndex.getUndoneTasks()));
+        assertEquals(2, taskIndex.count(TaskType.DEADLINE, false));
+    }
+
+    @Test
+    public void taskIndex_updateAndRemoveTasks_partitionsKeptCurrent() throws SpinBoxException {
+        TaskList tasks = new TaskList("testIndexModThree");
+        TaskIndex taskIndex = new TaskIndex();
+        taskIndex.track(tasks);
+        tasks.add(new Deadline("deadline1", new DateTime("01/01/2030 10:00")));
+        tasks.add(new Deadline("deadline2", new DateTime("01/02/2030 10:00")));
+        tasks.add(new Todo("todo"));
+
+        tasks.update(0, true);
+        assertEquals(Arrays.asList("testIndexModThree deadline2", "testIndexModThree deadline1"),
+                toNames(taskIndex.getTasks(TaskType.DEADLINE)));
+        assertEquals(1, taskIndex.count(TaskType.DEADLINE, true));
+
+        tasks.remove(0);
+        assertEquals(Arrays.asList("testIndexModThree todo"), toNames(taskIndex.getUndoneTasks()));
+
+        taskIndex.untrack(tasks);
+        tasks.add(new Todo("todo2"));
+        assertEquals(0, taskIndex.getUndoneTasks().size());
+        assertEquals(0, taskIndex.count(TaskType.DEADLINE, true));
+    }
+
+    @Test
+    public void getUrgentTasks_examsAndDoneTasksPresent_onlyFirstUndoneNonExamTasksReturned() throws SpinBoxException {
+        TaskList tasks = new TaskList("testIndexModFour");
+        TaskIndex taskIndex = new TaskIndex();
+        taskIndex.track(tasks);
+        tasks.add(new Exam("exam", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00")));
+        tasks.add(new Deadline("deadline1", new DateTime("01/02/2030 10:00")));
+        tasks.add(new Deadline("deadline2", new DateTime("01/03/2030 10:00")));
+        tasks.add(new Todo("todo"));
+
+        assertEquals(Arrays.asList("testIndexModFour deadline1", "testIndexModFour deadline2"),
+                toNames(taskIndex.getUrgentTasks(2)));
+
+        tasks.update(1, true);
+        assertEquals(Arrays.asList("testIndexModFour deadline2", "testIndexModFour todo"),
+                toNames(taskIndex.getUrgentTasks(5)));
+    }
+
+    @Test
+    public void getClashes_overlappingTasksInTwoModules_clashingPairsAndOverlapsFound() throws SpinBoxException {
+        TaskList tasksOne = new TaskList("testIndexModFive");
+        TaskList tasksTwo = new TaskList("testIndexModSix");
+        TaskIndex taskIndex = new TaskIndex();
+        taskIndex.track(tasksOne);
+        taskIndex.track(tasksTwo);
+        tasksOne.add(new Lecture("lecture1", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00")));
+        tasksOne.add(new Lecture("lecture2", new DateTime("01/01/2030 14:00"), new DateTime("01/01/2030 16:00")));
+        tasksTwo.add(new Exam("exam", new DateTime("01/01/2030 11:00"), new DateTime("01/01/2030 15:00")));
+        tasksTwo.add(new Lecture("lecture3", new DateTime("01/01/2030 12:00"), new DateTime("01/01/2030 13:00")));
+        tasksTwo.add(new Deadline("deadline", new DateTime("01/01/2030 11:30")));
+
+        List<String> clashes = new ArrayList<>();
+        for (Pair<Pair<String, Task>, Pair<String, Task>> clash : taskIndex.getClashes()) {
+            clashes.add(clash.getKey().getValue().getName() + "-" + clash.getValue().getValue().getName());
+        }
+        assertEquals(Arrays.asList("lecture1-exam", "exam-lecture3", "exam-lecture2"), clashes);
+
+        assertEquals(Arrays.asList("testIndexModSix exam", "testIndexModSix lecture3"),
+                toNames(taskIndex.getOverlappingTasks(new DateTime("01/01/2030 12:00"),
+                        new DateTime("01/01/2030 14:00"))));
+
+        tasksTwo.remove(0);
+        assertEquals(0, taskIndex.getClashes().size());
+    }
+
+    @Test
+    public void getFreeSlots_overlappingBusyIntervals_mergedAndShortGapsSkipped() throws SpinBoxException {
+        TaskList tasks = new TaskList("testIndexModSeven");
+        TaskIndex taskIndex = new TaskIndex();
+        taskIndex.track(tasks);
+        tasks.add(new Lecture("lecture1", new DateTime("01/01/2030 07:00"), new DateTime("01/01/2030 09:00")));
+        tasks.add(new Exam("exam", new DateTime("01/01/2030 10:00"), new DateTime("01/01/2030 12:00")));
+        tasks.add(new Lecture("lecture2", new DateTime("01/01/2030 12:30"), new DateTime("01/01/2030 14:00")));
+        tasks.add(new Deadline("deadline", new DateTime("01/01/2030 15:00")));
+
+        List<String> freeSlots = new ArrayList<>();
+        for (Pair<DateTime, DateTime> freeSlot : taskIndex.getFreeSlots(new DateTime("01/01/2030 08:00"),
+                new DateTime("01/01/2030 18:00"), 60 * 60 * 1000)) {
+            freeSlots.add(freeSlot.getKey().toString() + " to " + freeSlot.getValue().toString());
+        }
+        assertEquals(Arrays.asList("01/01/2030 09:00 to 01/01/2030 10:00", "01/01/2030 14:00 to 01/01/2030 18:00"),
+                freeSlots);
+    }
+
+    @Test
+    public void taskIndex_oldTasksArchivedOnSave_removedFromIndex() throws SpinBoxException {
+        new Storage("SpinBoxData/testIndexModArchive/archive.txt").writeData(new ArrayList<>());
+        new Storage("SpinBoxData/testIndexModArchive/tasks.txt").writeData(Arrays.asList(
+                "E | 0 | old event | 01/01/2019 10:00 | 01/01/2019 12:00"));
+        TaskList tasks = new TaskList("testIndexModArchive");
+        tasks.loadData();
+        TaskIndex taskIndex = new TaskIndex();
+        taskIndex.track(tasks);
+        assertEquals(1, taskIndex.count(TaskType.EVENT, false));
+
+        tasks.update(0, true);
+        assertEquals(0, tasks.size());
+        assertEquals(0, taskIndex.count(TaskType.EVENT, false));
+        assertEquals(0, taskIndex.count(TaskType.EVENT, true));
+
+        Event oldDoneEvent = new Event();
+        oldDoneEvent.fromStoredString("E | 1 | old done event | 01/02/2019 10:00 | 01/02/2019 12:00");
+        tasks.add(oldDoneEvent);
+        assertEquals(0, tasks.size());
+        assertEquals(0, taskIndex.count(TaskType.EVENT, true));
+        assertEquals(new ArrayList<>(), taskIndex.getOverlappingTasks(new DateTime("01/01/2019 00:00"),
+                new DateTime("01/03/2019 00:00")));
+    }
+}
@@ -2,8 +2,10 @@ package unit;
 
 import org.junit.jupiter.api.Test;
 import spinbox.containers.lists.TaskList;
+import spinbox.datapersistors.storage.Storage;
 import spinbox.entities.items.tasks.Task;
 import spinbox.entities.items.tasks.Todo;
+import spinbox.exceptions.InvalidIndexException;
 import spinbox.exceptions.SpinBoxException;
 
 import java.util.ArrayList;
@@ -11,6 +13,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TaskListUnitTest {
@@ -108,4 +112,129 @@ public class TaskListUnitTest {
         assertEquals(checkList.toString(), taskList.getList().toString());
     }
 
+    @Test
+    void batchUpdate_markTodosDoneInBatch_sortedAndSavedOnceOnCommit() throws SpinBoxException {
+        TaskList taskList = new TaskList("testBatchTaskList");
+        taskList.add(new Todo("task1"));
+        taskList.add(new Todo("task2"));
+        taskList.add(new Todo("task3"));
+
+        taskList.beginBatch();
+        taskList.update(2, true);
+        taskList.update(0, true);
+        taskList.remove(1);
+
+        TaskList savedTaskList = new TaskList("testBatchTaskList");
+        savedTaskList.loadData();
+        assertEquals(3, savedTaskList.size());
+        assertEquals("[T][DONE] task1", taskList.get(0).toString());
+
+        taskList.commit();
+        savedTaskList = new TaskList("testBatchTaskList");
+        savedTaskList.loadData();
+
+        List<String> checkList = Arrays.asList("[T][DONE] task1", "[T][DONE] task3");
+        assertEquals(checkList.toString(), taskList.getList().toString());
+        assertEquals(checkList.toString(), savedTaskList.getList().toString());
+    }
+
+    @Test
+    void batchUpdate_nestedBatchRolledBack_listRestoredAndNothingSaved() throws SpinBoxException {
+        TaskList taskList = new TaskList("testRollbackTaskList");
+        taskList.add(new Todo("task1"));
+        taskList.add(new Todo("task2"));
+        taskList.add(new Todo("task3"));
+
+        taskList.beginBatch();
+        taskList.update(0, true);
+        taskList.beginBatch();
+        taskList.remove(1);
+        taskList.commit();
+        assertTrue(taskList.isBatching());
+        taskList.rollback();
+
+        TaskList savedTaskList = new TaskList("testRollbackTaskList");
+        savedTaskList.loadData();
+        List<String> checkList = Arrays.asList("[T][NOT DONE] task1", "[T][NOT DONE] task2", "[T][NOT DONE] task3");
+        assertFalse(taskList.isBatching());
+        assertEquals(checkList.toString(), taskList.getList().toString());
+        assertEquals(checkList.toString(), savedTaskList.getList().toString());
+    }
+
+    @Test
+    void idLookup_reorderAndReload_idsStableAndResolvable() throws SpinBoxException {
+        TaskList taskList = new TaskList("testIdTaskList");
+        taskList.add(new Todo("task3"));
+        taskList.add(new Todo("task1"));
+        taskList.add(new Todo("task2"));
+
+        Task taskThree = taskList.get(taskList.getIndex("#1"));
+        assertEquals("[T][NOT DONE] task3", taskThree.toString());
+        assertEquals(2, taskList.getIndex("#1"));
+        assertEquals(0, taskList.getIndex("1"));
+
+        taskList.update(taskList.getIndex("#2"), true);
+        assertEquals(2, taskList.getIndex("#2"));
+        assertEquals("[T][DONE] task1", taskList.getById(2).toString());
+
+        TaskList savedTaskList = new TaskList("testIdTaskList");
+        savedTaskList.loadData();
+        assertEquals("[T][NOT DONE] task3", savedTaskList.getById(1).toString());
+        assertEquals(Arrays.asList(1, 0), savedTaskList.getIndexes(new String[]{"#1", "#3"}));
+        assertThrows(InvalidIndexException.class, () -> savedTaskList.getById(4));
+
+        savedTaskList.add(new Todo("task4"));
+        assertEquals("#4", savedTaskList.getById(4).getIdString());
+    }
+
+    @Test
+    void idLookup_removeAndReload_idNotGivenAgain() throws SpinBoxException {
+        TaskList taskList = new TaskList("testIdReuseTaskList");
+        taskList.add(new Todo("task1"));
+        taskList.add(new Todo("task2"));
+        taskList.remove(taskList.getIndex("#2"));
+
+        TaskList savedTaskList = new TaskList("testIdReuseTaskList");
+        savedTaskList.loadData();
+        savedTaskList.add(new Todo("task3"));
+        assertThrows(InvalidIndexException.class, () -> savedTaskList.getIndex("#2"));
+        assertEquals("[T][NOT DONE] task3", savedTaskList.get(savedTaskList.getIndex("#3")).toString());
+    }
+
+    @Test
+    void saveData_completedTasksOlderThanArchiveAge_movedToArchiveAndLoadedOnlyOnDemand() throws SpinBoxException {
+        Storage archiveStorage = new Storage("SpinBoxData/testArchiveTaskList/archive.txt");
+        archiveStorage.writeData(Arrays.asList("E | 1 | old event | 01/01/2019 10:00 | 01/01/2019 12:00 | id:#1"));
+        Storage taskStorage = new Storage("SpinBoxData/testArchiveTaskList/tasks.txt");
+        taskStorage.writeData(Arrays.asList("E | 1 | old event | 01/01/2019 10:00 | 01/01/2019 12:00",
+                "E | 1 | old exam | 01/02/2019 10:00 | 01/02/2019 12:00",
+                "E | 0 | old unfinished event | 01/03/2019 10:00 | 01/03/2019 12:00",
+                "E | 1 | future event | 01/01/2030 10:00 | 01/01/2030 12:00",
+                "T | 1 | old todo"));
+
+        TaskList taskList = new TaskList("testArchiveTaskList");
+        taskList.loadData();
+        assertEquals(5, taskList.size());
+        assertEquals(5, taskStorage.loadData().size());
+        assertEquals(1, archiveStorage.loadData().size());
+
+        taskList.saveData();
+        assertEquals(Arrays.asList("[E][NOT DONE] old unfinished event (at: 01/03/2019 10:00 to 01/03/2019 12:00)",
+                "[E][DONE] future event (at: 01/01/2030 10:00 to 01/01/2030 12:00)",
+                "[T][DONE] old todo").toString(), taskList.getList().toString());
+        assertEquals(Arrays.asList("next id: 6", "E | 0 | old unfinished event | 01/03/2019 10:00 | 01/03/2019 12:00"
+                + " | id:#3"), taskStorage.loadData().subList(0, 2));
+        assertEquals(4, taskStorage.loadData().size());
+        assertEquals(2, taskList.getArchivedTasks().size());
+        assertEquals("[E][DONE] old event (at: 01/01/2019 10:00 to 01/01/2019 12:00)",
+                taskList.getArchivedTasks().get(0).toString());
+        assertEquals(Arrays.asList("Here are the archived tasks that contain exam",
+                "1. [E][DONE] old exam (at: 01/02/2019 10:00 to 01/02/2019 12:00)"),
+                taskList.archiveContainsKeyword("exam"));
+
+        TaskList reloadedTaskList = new TaskList("testArchiveTaskList");
+        reloadedTaskList.loadData();
+        assertEquals(3, reloadedTaskList.size());
+        assertEquals(2, reloadedTaskList.getArchivedTasks().size());
+    }
 }
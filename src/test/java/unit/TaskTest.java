@@ -11,8 +11,10 @@ import spinbox.entities.items.tasks.Todo;
 import spinbox.entities.items.tasks.Tutorial;
 import spinbox.exceptions.DateFormatException;
 import spinbox.exceptions.ScheduleDateException;
+import spinbox.exceptions.SpinBoxException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class TaskTest {
@@ -35,6 +37,14 @@ public class TaskTest {
         assertEquals(todo.toString(), "[T][DONE] Test 1");
     }
 
+    @Test
+    public void loadTodoSuccessful_nameLikeIdentifier_nameKept() throws SpinBoxException {
+        Todo todo = new Todo();
+        todo.fromStoredString("T | 0 | #hw1");
+        assertEquals("[T][NOT DONE] #hw1", todo.toString());
+        assertEquals("T | 0 | #hw1", todo.storeString());
+    }
+
     @Test
     public void createDeadlineSuccessful_createNewDeadlineTask_deadlineSuccessfullyCreated() {
         try {
@@ -144,4 +154,36 @@ public class TaskTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void loadLecturesFromStorage_manyLecturesAtSameTimes_datesAndNamesShared() throws SpinBoxException {
+        String storedLecture = new Lecture("CS2100 Lecture", startDateTime, endDateTime).storeString();
+        Lecture firstLecture = new Lecture();
+        firstLecture.fromStoredString(storedLecture);
+
+        for (int i = 0; i < 1000; i++) {
+            Lecture loadedLecture = new Lecture();
+            loadedLecture.fromStoredString(storedLecture);
+            assertSame(firstLecture.getStartDate(), loadedLecture.getStartDate());
+            assertSame(firstLecture.getEndDate(), loadedLecture.getEndDate());
+            assertSame(firstLecture.getName(), loadedLecture.getName());
+        }
+        assertEquals(storedLecture, firstLecture.storeString());
+    }
+
+    @Test
+    public void cachedStrings_eventRescheduledAfterFormatting_stringsFormattedOnlyAgainAfterChange()
+            throws SpinBoxException {
+        Event event = new Event("Test 3", startDateTime, endDateTime);
+        String displayString = event.toString();
+        String storageString = event.storeString();
+        assertSame(displayString, event.toString());
+        assertSame(storageString, event.storeString());
+
+        event.setEndDate(new DateTime("01/02/2030 12:00"));
+        assertEquals("[E][NOT DONE] Test 3 (at: 01/01/2030 00:00 to 01/02/2030 12:00)", event.toString());
+        assertEquals("E | 0 | Test 3 | 01/01/2030 00:00 | 01/02/2030 12:00", event.storeString());
+        event.markDone();
+        assertEquals("[E][DONE] Test 3 (at: 01/01/2030 00:00 to 01/02/2030 12:00)", event.toString());
+    }
+}